@@ -0,0 +1,111 @@
+package com.urbanape.api.domain.auth.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.urbanape.api.domain.auth.components.TokenKeyring;
+import com.urbanape.api.domain.auth.components.TokenRevocationRegistry;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Compara o TokenService (cache de tokens verificados e signer/verifier pré-construídos) com a construção por chamada usada antes.
+// Rodar com o perfil "benchmark" (ver README); o profiler de GC mostra a alocação por operação.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI";
+
+    private static final String KEY_ID = "v1";
+
+    private TokenKeyring tokenKeyring;
+
+    private TokenService tokenService;
+
+    private User user;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenKeyring = new TokenKeyring(SECRET, KEY_ID, "");
+        tokenService = new TokenService(tokenKeyring, new TokenRevocationRegistry(Mockito.mock(UserRepository.class), 10_000, Duration.ofSeconds(5), new SimpleMeterRegistry()), 10_000, new SimpleMeterRegistry());
+        user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
+        token = tokenService.generateToken(user);
+
+        // A linha de base só é comparável se assinar exatamente o mesmo token (iat/exp têm resolução de segundos)
+        for (int attempt = 0; !tokenService.generateToken(user).equals(generateToken_rebuildPerCall()); attempt++) {
+            if (attempt == 3) throw new IllegalStateException("generateToken_rebuildPerCall does not match TokenService.generateToken");
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken_rebuildPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+
+        return JWT.create()
+            .withKeyId(KEY_ID)
+            .withIssuer(TokenKeyring.ISSUER)
+            .withSubject(user.getEmail())
+            .withClaim("userId", user.getId())
+            .withClaim("name", user.getName())
+            .withClaim("email", user.getEmail())
+            .withClaim("role", user.getRole().name())
+            .withClaim("ver", user.getTokenVersion())
+            .withIssuedAt(Instant.now())
+            .withExpiresAt(LocalDateTime.now().plus(TokenRevocationRegistry.TOKEN_LIFETIME).toInstant(ZoneOffset.of("-03:00")))
+            .sign(algorithm);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateToken_prebuiltVerifier() {
+        return tokenKeyring.verifier(JWT.decode(token).getKeyId()).verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String validateToken_rebuildPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+
+        return JWT.require(algorithm)
+            .withIssuer(TokenKeyring.ISSUER)
+            .withClaimPresence("userId")
+            .withClaimPresence("role")
+            .build()
+            .verify(token)
+            .getSubject();
+    }
+}
@@ -0,0 +1,58 @@
+package com.urbanape.api.domain.cards.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.services.CardService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+// Serialização de Page<CardResponseDTO> como é devolvida pelos endpoints de listagem de cartões.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardPageSerializationBenchmark {
+
+    @Param({ "20", "100", "1000" })
+    private int size;
+
+    private JsonMapper jsonMapper;
+
+    private Page<CardResponseDTO> page;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+
+        List<CardResponseDTO> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cards.add(new CardResponseDTO(CardService.generateCardNumber(i + 1), "Cartão " + i, true, CardType.ESTUDANTE));
+        }
+        page = new PageImpl<>(cards, PageRequest.of(0, size), size * 10L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,82 @@
+package com.urbanape.api.domain.cards.services;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Compara a geração aritmética do número do cartão com a versão anterior baseada em String (legacy*).
+// O profiler de GC mostra a alocação por operação, que deve ser zero na versão aritmética.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardNumberBenchmark {
+
+    private long sequence;
+
+    private long cardNumber;
+
+    @Setup
+    public void setup() {
+        sequence = 1_000_000L;
+        cardNumber = CardService.generateCardNumber(sequence);
+    }
+
+    @Benchmark
+    public long generateCardNumber() {
+        return CardService.generateCardNumber(sequence++);
+    }
+
+    @Benchmark
+    public Long legacyGenerateCardNumber() {
+        return legacyGenerate(sequence++);
+    }
+
+    @Benchmark
+    public boolean isValidCardNumber() {
+        return CardService.isValidCardNumber(cardNumber);
+    }
+
+    @Benchmark
+    public boolean legacyIsValidCardNumber() {
+        String number = Long.toString(cardNumber);
+        return number.startsWith("7777") && legacyLuhn(number.substring(0, number.length() - 1)) == number.charAt(number.length() - 1) - '0';
+    }
+
+    private static Long legacyGenerate(long sequence) {
+        long obfuscated = (sequence * 7919) % 1_000_000_000_000L;
+
+        String base = "7777" + String.format("%011d", obfuscated);
+
+        int checkDigit = legacyLuhn(base);
+
+        return Long.parseLong(base) * 10 + checkDigit;
+    }
+
+    private static int legacyLuhn(String number) {
+        int sum = 0;
+        boolean alternate = true;
+
+        for (int i = number.length() - 1; i >= 0; i--) {
+            int n = number.charAt(i) - '0';
+            if (alternate) {
+                n *= 2;
+                if (n > 9) n -= 9;
+            }
+            sum += n;
+            alternate = !alternate;
+        }
+        return (10 - (sum % 10)) % 10;
+    }
+}
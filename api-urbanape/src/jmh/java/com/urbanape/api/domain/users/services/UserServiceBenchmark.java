@@ -0,0 +1,83 @@
+package com.urbanape.api.domain.users.services;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.users.dtos.UserResponseDTO;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+// Custo do mapeamento User -> UserResponseDTO conforme a quantidade de cartões do usuário, pela listagem de admin
+// (findAllSlice); um em cada dez cartões está removido e fica fora da resposta. O repositório é um Proxy simples
+// em vez de um mock do Mockito, cujo custo por chamada encobriria o do mapeamento.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    private int cards;
+
+    private UserService userService;
+
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        User user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
+
+        List<Card> userCards = new ArrayList<>(cards);
+        for (int i = 0; i < cards; i++) {
+            Card card = new Card(CardService.generateCardNumber(i + 1), "Cartão " + i, true, CardType.ESTUDANTE, user);
+            card.setIsDeleted(i % 10 == 9);
+            userCards.add(card);
+        }
+        user.setCards(userCards);
+
+        pageable = PageRequest.of(0, 1);
+        Slice<Long> ids = new SliceImpl<>(List.of(1L), pageable, false);
+        List<User> users = List.of(user);
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] { UserRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findNotDeletedIds" -> ids;
+                case "findAllWithCardsByIds" -> users;
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+
+        userService = new UserService();
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+    }
+
+    @Benchmark
+    public Slice<UserResponseDTO> findAllSlice() {
+        return userService.findAllSlice("", pageable);
+    }
+}
@@ -0,0 +1,65 @@
+// Carga de leitura para comparar os modos de execução (pool do Tomcat x threads virtuais).
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform src/loadtest/read-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const RATE = Number(__ENV.RATE || 500);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Number(__ENV.VUS || 200),
+            maxVUs: Number(__ENV.MAX_VUS || 2000),
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: MODE },
+};
+
+export function setup() {
+    const login = (email, password) => {
+        const response = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ email, password }), {
+            headers: { 'Content-Type': 'application/json' },
+        });
+        check(response, { 'login 200': (r) => r.status === 200 });
+        return response.json('token');
+    };
+
+    return {
+        user: login('joao@user.urbanape.com', 'user123@#'),
+        admin: login('zeninguem@admin.urbanape.com', 'admin123'),
+    };
+}
+
+// Sem If-None-Match: cada requisição passa pelo filtro de autenticação e pelo banco
+export default function (tokens) {
+    const user = { headers: { Authorization: `Bearer ${tokens.user}` } };
+    const admin = { headers: { Authorization: `Bearer ${tokens.admin}` } };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/cards/me?page=0&size=20`, null, user],
+        ['GET', `${BASE_URL}/api/v1/users/me`, null, user],
+        ['GET', `${BASE_URL}/api/v1/admin/users?page=${Math.floor(Math.random() * 5)}&size=20&count=false`, null, admin],
+    ]);
+
+    responses.forEach((response) => check(response, { 'status 200': (r) => r.status === 200 }));
+}
+
+export function handleSummary(data) {
+    return {
+        [`target/k6-${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n${MODE}: ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+            + `p99 ${data.metrics.http_req_duration.values['p(99)'].toFixed(1)} ms, `
+            + `falhas ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+    };
+}
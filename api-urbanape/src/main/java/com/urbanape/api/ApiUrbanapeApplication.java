@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.urbanape.api.domain.auth.dtos.RegisterRequestDTO;
@@ -30,6 +29,9 @@ public class ApiUrbanapeApplication implements CommandLineRunner {
 	@Autowired
 	private CardService cardService;
 
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
 	public static void main(String[] args) {
 		SpringApplication.run(ApiUrbanapeApplication.class, args);
 	}
@@ -48,8 +50,6 @@ public class ApiUrbanapeApplication implements CommandLineRunner {
 	@Override
 	public void run(String... args) throws Exception {
 
-		PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-
 		// Lista de usuários de exemplo para demonstração
 		ArrayList<RegisterRequestDTO> users = new ArrayList<>();
 		users.add(new RegisterRequestDTO("Zé Ninguem", "zeninguem@admin.urbanape.com", "admin123", UserRole.ADMIN));
@@ -0,0 +1,45 @@
+package com.urbanape.api.domain.auth.components;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.infra.cache.CallerRunsLoader;
+import com.urbanape.api.infra.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class PrincipalCache {
+
+    private final AsyncCache<String, AuthenticatedUserDTO> cache;
+
+    public PrincipalCache(
+        @Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+        @Value("${api.security.principal-cache.ttl:5m}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "principals");
+    }
+
+    public AuthenticatedUserDTO get(String subject, Function<String, AuthenticatedUserDTO> loader) {
+        return CallerRunsLoader.get(cache, subject, loader);
+    }
+
+    public void invalidateByUserIds(Collection<Long> userIds) {
+        AfterCommit.run(() -> cache.synchronous().asMap().values().removeIf(user -> userIds.contains(user.id())));
+    }
+}
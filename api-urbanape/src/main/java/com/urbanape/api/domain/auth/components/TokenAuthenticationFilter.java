@@ -3,12 +3,13 @@ package com.urbanape.api.domain.auth.components;
 import java.io.IOException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
 import com.urbanape.api.domain.auth.services.TokenService;
 import com.urbanape.api.domain.users.repositories.UserRepository;
 
@@ -26,13 +27,18 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Value("${api.security.token.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var token = getToken(request);
 
         if (token != null) {
-            var subject = tokenService.validateToken(token);
-            UserDetails user = userRepository.findByEmail(subject);
+            AuthenticatedUserDTO user = stateless ? tokenService.decodePrincipal(token) : loadPrincipal(token);
 
             if (user != null) {
                 var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
@@ -42,6 +48,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private AuthenticatedUserDTO loadPrincipal(String token) {
+        var subject = tokenService.validateToken(token);
+
+        return principalCache.get(subject, email -> userRepository.findNotDeletedByEmail(email).map(AuthenticatedUserDTO::from).orElse(null));
+    }
+
     private String getToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
 
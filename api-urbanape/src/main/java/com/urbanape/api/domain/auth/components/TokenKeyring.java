@@ -0,0 +1,73 @@
+package com.urbanape.api.domain.auth.components;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+
+// Chaves HMAC indexadas por "kid". Algorithm e JWTVerifier são imutáveis e thread-safe,
+// então são construídos uma única vez por chave em vez de a cada requisição.
+// A rotação é feita no reinício: a chave antiga passa para previous-secrets e sai de lá
+// quando os tokens assinados com ela expiram, igual em todas as instâncias.
+@Component
+public class TokenKeyring {
+
+    public static final String ISSUER = "api-urbanape";
+
+    private final Map<String, JWTVerifier> verifiers;
+
+    private final String legacyKeyId;
+
+    private final SigningKey activeKey;
+
+    public TokenKeyring(
+        @Value("${api.security.token.secret}") String secret,
+        @Value("${api.security.token.kid:v1}") String keyId,
+        @Value("${api.security.token.previous-secrets:}") String previousSecrets
+    ) {
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+
+        for (String entry : previousSecrets.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length == 2) register(verifiers, parts[0], parts[1]);
+        }
+
+        this.activeKey = register(verifiers, keyId, secret);
+        this.verifiers = Map.copyOf(verifiers);
+        this.legacyKeyId = keyId;
+    }
+
+    public SigningKey activeKey() {
+        return activeKey;
+    }
+
+    public JWTVerifier verifier(String keyId) {
+        JWTVerifier verifier = verifiers.get(resolve(keyId));
+        if (verifier == null) throw new IllegalArgumentException("Unknown token key: " + keyId);
+        return verifier;
+    }
+
+    private static SigningKey register(Map<String, JWTVerifier> verifiers, String keyId, String secret) {
+        Algorithm algorithm = Algorithm.HMAC256(secret);
+
+        verifiers.put(keyId, JWT.require(algorithm)
+            .withIssuer(ISSUER)
+            .withClaimPresence("userId")
+            .withClaimPresence("role")
+            .build());
+
+        return new SigningKey(keyId, algorithm);
+    }
+
+    // Tokens emitidos antes do keyring não possuem "kid" e foram assinados com a chave inicial
+    private String resolve(String keyId) {
+        return keyId != null ? keyId : legacyKeyId;
+    }
+
+    public record SigningKey(String keyId, Algorithm algorithm) {}
+}
@@ -0,0 +1,62 @@
+package com.urbanape.api.domain.auth.components;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.infra.cache.CallerRunsLoader;
+import com.urbanape.api.infra.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Revogação dos tokens no modo stateless. O token carrega o token_version do usuário na emissão (claim "ver");
+// alterar o usuário incrementa a versão no banco e removê-lo faz a consulta não encontrá-lo, então o token
+// deixa de valer em todas as instâncias, inclusive após reinícios. A versão atual fica em cache por até ttl:
+// é o atraso máximo para uma revogação feita em outra instância chegar a esta. Nesta, o cache é limpo no commit.
+@Component
+public class TokenRevocationRegistry {
+
+    public static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+
+    // Usuário removido: nenhuma versão de token é aceita
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+
+    private final AsyncCache<Long, Integer> versions;
+
+    public TokenRevocationRegistry(
+        UserRepository userRepository,
+        @Value("${api.security.token.version-cache.max-size:10000}") long maxSize,
+        @Value("${api.security.token.version-cache.ttl:5s}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions.synchronous(), "token-versions");
+    }
+
+    // Chamado depois de incrementar token_version (ou remover o usuário) na transação corrente
+    public void revokeUsers(Collection<Long> userIds) {
+        AfterCommit.run(() -> versions.synchronous().invalidateAll(userIds));
+    }
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        int current = CallerRunsLoader.get(versions, userId, id -> {
+            Integer version = userRepository.findTokenVersionById(id);
+            return version != null ? version : REVOKED;
+        });
+        return current != tokenVersion;
+    }
+}
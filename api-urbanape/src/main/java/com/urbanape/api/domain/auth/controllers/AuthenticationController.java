@@ -5,10 +5,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.urbanape.api.domain.auth.dtos.LoginRequestDTO;
 import com.urbanape.api.domain.auth.dtos.RegisterRequestDTO;
 import com.urbanape.api.domain.auth.dtos.TokenResponseDTO;
+import com.urbanape.api.domain.auth.services.LoginService;
 import com.urbanape.api.domain.auth.services.TokenService;
 import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.domain.users.services.UserService;
 import com.urbanape.api.infra.dtos.ResponseMessageDTO;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -21,19 +24,17 @@ import org.springframework.http.ResponseEntity;
 
 import jakarta.validation.Valid;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.authentication.AuthenticationManager;
+import java.util.concurrent.CompletableFuture;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-
-import jakarta.transaction.Transactional;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 
 @RestController
 @RequestMapping("api/v1/auth")
 public class AuthenticationController {
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private LoginService loginService;
 
     @Autowired
     private UserRepository userRepository;
@@ -41,13 +42,16 @@ public class AuthenticationController {
     @Autowired
     private TokenService tokenService;
 
-    @PostMapping("/login")
-    public ResponseEntity<TokenResponseDTO> login(@RequestBody @Valid LoginRequestDTO request) {
-        var usernamePassword = new UsernamePasswordAuthenticationToken(request.email(), request.password());
-        var auth = this.authenticationManager.authenticate(usernamePassword);
-        var token = tokenService.generateToken((User) auth.getPrincipal());
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
-        return ResponseEntity.ok(new TokenResponseDTO(token));
+    @Autowired
+    private TotalCountCache totalCountCache;
+
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<TokenResponseDTO>> login(@RequestBody @Valid LoginRequestDTO request) {
+        return loginService.authenticate(request.email(), request.password())
+            .thenApply(user -> ResponseEntity.ok(new TokenResponseDTO(tokenService.generateToken(user))));
     }
 
     @PostMapping("/register")
@@ -57,11 +61,12 @@ public class AuthenticationController {
             return ResponseEntity.badRequest().body(new ResponseMessageDTO("User already registered"));
         }
 
-        String encryptedPassword = new BCryptPasswordEncoder().encode(request.password());
+        String encryptedPassword = passwordEncoder.encode(request.password());
 
         User user = new User(request.name(), request.email(), encryptedPassword, request.role());
 
         userRepository.save(user);
+        totalCountCache.invalidate(UserService.COUNT_KEY);
 
         return ResponseEntity.ok(new ResponseMessageDTO("User registered successfully"));
     }
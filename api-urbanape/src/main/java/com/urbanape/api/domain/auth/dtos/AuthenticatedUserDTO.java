@@ -0,0 +1,44 @@
+package com.urbanape.api.domain.auth.dtos;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+
+public record AuthenticatedUserDTO(
+    Long id,
+    String name,
+    String email,
+    UserRole role
+) implements UserDetails {
+
+    public static AuthenticatedUserDTO from(User user) {
+        return new AuthenticatedUserDTO(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == UserRole.ADMIN) {
+            return List.of(
+                new SimpleGrantedAuthority("ROLE_ADMIN"),
+                new SimpleGrantedAuthority("ROLE_USER")
+            );
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+}
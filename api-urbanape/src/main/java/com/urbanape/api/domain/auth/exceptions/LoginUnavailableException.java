@@ -0,0 +1,21 @@
+package com.urbanape.api.domain.auth.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class LoginUnavailableException extends RuntimeException {
+
+    public LoginUnavailableException(String message) {
+        super(message);
+    }
+
+    public LoginUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public LoginUnavailableException(Throwable cause) {
+        super(cause);
+    }
+
+}
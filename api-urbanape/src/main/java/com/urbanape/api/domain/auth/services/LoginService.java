@@ -0,0 +1,89 @@
+package com.urbanape.api.domain.auth.services;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import com.urbanape.api.domain.auth.exceptions.LoginUnavailableException;
+import com.urbanape.api.domain.users.entities.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+// O hash do BCrypt é caro em CPU; ele roda num pool próprio e limitado para que picos de login
+// não ocupem as threads do Tomcat que atendem o restante da API. Com a fila cheia o login é recusado na hora.
+@Service
+public class LoginService {
+
+    private final AuthenticationManager authenticationManager;
+
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    private final ThreadPoolExecutor threadPool;
+
+    private final ExecutorService executor;
+
+    private final Timer hashTimer;
+
+    public LoginService(
+        AuthenticationManager authenticationManager,
+        PasswordUpgradeService passwordUpgradeService,
+        @Value("${api.security.login.threads:4}") int threads,
+        @Value("${api.security.login.queue-capacity:100}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        this.authenticationManager = authenticationManager;
+        this.passwordUpgradeService = passwordUpgradeService;
+        this.threadPool = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("login-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "login");
+        this.hashTimer = Timer.builder("auth.login.hash")
+            .description("Tempo de verificação da senha no login")
+            .register(meterRegistry);
+    }
+
+    public CompletableFuture<User> authenticate(String email, String password) {
+        try {
+            return CompletableFuture.supplyAsync(() -> verify(email, password), executor);
+        } catch (RejectedExecutionException exception) {
+            throw new LoginUnavailableException("Too many login attempts, try again later", exception);
+        }
+    }
+
+    private User verify(String email, String password) {
+        Timer.Sample sample = Timer.start();
+        try {
+            var usernamePassword = new UsernamePasswordAuthenticationToken(email, password);
+            User user = (User) authenticationManager.authenticate(usernamePassword).getPrincipal();
+
+            if (passwordUpgradeService.needsUpgrade(user.getPassword())) {
+                passwordUpgradeService.upgrade(user.getId(), password);
+            }
+
+            return user;
+        } finally {
+            sample.stop(hashTimer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+}
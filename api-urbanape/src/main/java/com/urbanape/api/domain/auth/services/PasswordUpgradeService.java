@@ -0,0 +1,59 @@
+package com.urbanape.api.domain.auth.services;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+
+// Regrava, em segundo plano, hashes de senha gerados com algoritmo ou custo desatualizado.
+// Se a fila estiver cheia a atualização é descartada e acontece num próximo login.
+@Service
+public class PasswordUpgradeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordUpgradeService.class);
+
+    private final UserRepository userRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        1, 1,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1000),
+        new CustomizableThreadFactory("password-upgrade-"),
+        new ThreadPoolExecutor.DiscardPolicy()
+    );
+
+    public PasswordUpgradeService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public void upgrade(Long userId, String rawPassword) {
+        executor.execute(() -> {
+            try {
+                userRepository.updatePassword(userId, passwordEncoder.encode(rawPassword));
+            } catch (RuntimeException exception) {
+                logger.warn("Erro ao atualizar o hash de senha do usuario {}", userId, exception);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,38 +1,91 @@
 package com.urbanape.api.domain.auth.services;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.urbanape.api.domain.auth.components.TokenKeyring;
+import com.urbanape.api.domain.auth.components.TokenRevocationRegistry;
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
 import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
 
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private final TokenKeyring tokenKeyring;
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    // Tokens já verificados, indexados pelo hash SHA-256 do token e removidos quando o token expira
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenService(
+        TokenKeyring tokenKeyring,
+        TokenRevocationRegistry tokenRevocationRegistry,
+        @Value("${api.security.token.cache.max-size:10000}") long cacheMaxSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.tokenKeyring = tokenKeyring;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    return Duration.between(Instant.now(), token.expiresAt()).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, token, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            TokenKeyring.SigningKey key = tokenKeyring.activeKey();
 
             return JWT.create()
-                .withIssuer("api-urbanape")
+                .withKeyId(key.keyId())
+                .withIssuer(TokenKeyring.ISSUER)
                 .withSubject(user.getEmail())
                 .withClaim("userId", user.getId())
                 .withClaim("name", user.getName())
                 .withClaim("email", user.getEmail())
                 .withClaim("role", user.getRole().name())
+                .withClaim("ver", user.getTokenVersion())
+                .withIssuedAt(Instant.now())
                 .withExpiresAt(generateExpirationDate())
-                .sign(algorithm);
+                .sign(key.algorithm());
 
         } catch (JWTCreationException exception) {
             throw new RuntimeException("Error generating token", exception);
@@ -40,21 +93,66 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
+        return verify(token).subject();
+    }
+
+    public AuthenticatedUserDTO decodePrincipal(String token) {
+        VerifiedToken verified = verify(token);
+
+        if (tokenRevocationRegistry.isRevoked(verified.principal().id(), verified.tokenVersion())) return null;
+
+        return verified.principal();
+    }
+
+    private VerifiedToken verify(String token) {
+        String key = hash(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) return cached;
+
+        VerifiedToken verified = decodeAndVerify(token);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    private VerifiedToken decodeAndVerify(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            
-            return JWT.require(algorithm)
-                .withIssuer("api-urbanape")
-                .build()
-                .verify(token)
-                .getSubject();
-                
-        } catch (JWTVerificationException exception) {
+            DecodedJWT decoded = JWT.decode(token);
+            DecodedJWT jwt = tokenKeyring.verifier(decoded.getKeyId()).verify(decoded);
+
+            AuthenticatedUserDTO principal = new AuthenticatedUserDTO(
+                jwt.getClaim("userId").asLong(),
+                jwt.getClaim("name").asString(),
+                jwt.getClaim("email").asString(),
+                UserRole.valueOf(jwt.getClaim("role").asString())
+            );
+
+            Instant expiresAt = jwt.getExpiresAtAsInstant() != null
+                ? jwt.getExpiresAtAsInstant()
+                : Instant.now().plus(TokenRevocationRegistry.TOKEN_LIFETIME);
+
+            // Tokens emitidos antes da V10 não têm "ver" e equivalem à versão inicial
+            Integer version = jwt.getClaim("ver").asInt();
+
+            return new VerifiedToken(jwt.getSubject(), principal, version != null ? version : 0, expiresAt);
+
+        } catch (JWTVerificationException | IllegalArgumentException exception) {
             throw new RuntimeException("Invalid token", exception);
         }
     }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
     private Instant generateExpirationDate() {
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        return LocalDateTime.now().plus(TokenRevocationRegistry.TOKEN_LIFETIME).toInstant(ZoneOffset.of("-03:00"));
     }
+
+    private record VerifiedToken(String subject, AuthenticatedUserDTO principal, int tokenVersion, Instant expiresAt) {}
 }
@@ -0,0 +1,95 @@
+package com.urbanape.api.domain.cards.components;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * Cada nextval de card_number_seq reserva o bloco [valor, valor + tamanho do bloco) para esta
+ * instância, que distribui os valores em memória sem lock. O tamanho do bloco não pode ser maior
+ * que o INCREMENT da sequence, senão duas instâncias receberiam faixas sobrepostas.
+ *
+ * Garantias: nenhum valor é entregue duas vezes, entre threads ou entre instâncias. Não há
+ * garantia de continuidade: o restante do bloco se perde quando a aplicação reinicia, quando a
+ * transação que usou o número é desfeita ou quando duas threads buscam um bloco novo ao mesmo tempo.
+ */
+@Component
+public class CardNumberAllocator {
+
+    private static final String INCREMENT_QUERY =
+        "SELECT CAST(increment AS BIGINT) FROM information_schema.sequences WHERE UPPER(sequence_name) = 'CARD_NUMBER_SEQ'";
+
+    private final CardRepository cardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long blockSize;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+
+    public CardNumberAllocator(
+        CardRepository cardRepository,
+        JdbcTemplate jdbcTemplate,
+        @Value("${api.cards.number-block-size:50}") long blockSize
+    ) {
+        if (blockSize < 1) throw new IllegalArgumentException("Card number block size must be positive");
+
+        this.cardRepository = cardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+    }
+
+    @PostConstruct
+    void verifyIncrement() {
+        long increment = jdbcTemplate.queryForList(INCREMENT_QUERY, Long.class).stream().findFirst().orElse(1L);
+
+        if (increment < blockSize) {
+            throw new IllegalStateException(
+                "card_number_seq increments by " + increment + " but the card number block size is " + blockSize
+            );
+        }
+    }
+
+    public long next() {
+        Block block = current.get();
+        long sequence = block.next.getAndIncrement();
+
+        if (sequence < block.high) return sequence;
+
+        // Bloco esgotado: o valor baixo do bloco novo é sempre desta thread; se outra thread
+        // instalou um bloco antes, o restante deste é descartado, o que só gera lacuna
+        long low = cardRepository.nextCardNumber();
+        current.compareAndSet(block, new Block(low + 1, low + blockSize));
+        return low;
+    }
+
+    // Lotes usam blocos próprios para não disputar o bloco compartilhado com next()
+    public long[] allocate(int count) {
+        long[] sequences = new long[count];
+        int filled = 0;
+
+        while (filled < count) {
+            long low = cardRepository.nextCardNumber();
+            for (long offset = 0; offset < blockSize && filled < count; offset++) {
+                sequences[filled++] = low + offset;
+            }
+        }
+
+        return sequences;
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long high;
+
+        private Block(long next, long high) {
+            this.next = new AtomicLong(next);
+            this.high = high;
+        }
+    }
+}
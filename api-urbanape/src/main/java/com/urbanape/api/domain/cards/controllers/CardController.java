@@ -1,9 +1,18 @@
 package com.urbanape.api.domain.cards.controllers;
 
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,16 +21,26 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.domain.cards.dtos.CardBatchResponseDTO;
 import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
 import com.urbanape.api.domain.cards.dtos.DeleteCardListRequestDTO;
+import com.urbanape.api.domain.cards.dtos.DeleteCardListResponseDTO;
+import com.urbanape.api.domain.cards.dtos.NewCardBatchRequestDTO;
 import com.urbanape.api.domain.cards.dtos.NewCardRequestDTO;
 import com.urbanape.api.domain.cards.dtos.UpdateCardRequestDTO;
+import com.urbanape.api.domain.cards.services.CardExportService;
 import com.urbanape.api.domain.cards.services.CardService;
-import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
 
 import jakarta.validation.Valid;
 
@@ -32,14 +51,52 @@ public class CardController {
     @Autowired
     private CardService cardService;
 
+    @Autowired
+    private CardExportService cardExportService;
+
+    @Autowired
+    private UserVersionRegistry userVersionRegistry;
+
+    @Value("${api.cards.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @GetMapping("v1/cards/me")
-    public ResponseEntity<Page<CardResponseDTO>> getCardsMe(@AuthenticationPrincipal User user, Pageable pageable) {
-        return ResponseEntity.ok(cardService.findAllByUserId(user.getId(), pageable));
+    public ResponseEntity<Page<CardResponseDTO>> getCardsMe(@AuthenticationPrincipal AuthenticatedUserDTO user, Pageable pageable, ServletWebRequest request) {
+        String etag = userVersionRegistry.etag(user.id(), request.getRequest());
+
+        if (request.checkNotModified(etag)) return notModified(etag);
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(cardService.findAllByUserId(user.id(), pageable));
+    }
+
+    @GetMapping(value = "v1/cards/me", params = "count=false")
+    public ResponseEntity<Slice<CardResponseDTO>> getCardsMeSlice(@AuthenticationPrincipal AuthenticatedUserDTO user, Pageable pageable, ServletWebRequest request) {
+        String etag = userVersionRegistry.etag(user.id(), request.getRequest());
+
+        if (request.checkNotModified(etag)) return notModified(etag);
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(cardService.findAllByUserIdSlice(user.id(), pageable));
+    }
+
+    @GetMapping("v1/cards/me/cursor")
+    public ResponseEntity<CursorPageDTO<CardResponseDTO>> getCardsMeByCursor(
+        @AuthenticationPrincipal AuthenticatedUserDTO user,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(cardService.findAllByUserIdAfter(user.id(), after, size));
+    }
+
+    @GetMapping("v1/cards/me/numbers")
+    public ResponseEntity<Slice<Long>> getCardNumbersMe(@AuthenticationPrincipal AuthenticatedUserDTO user, Pageable pageable) {
+        return ResponseEntity.ok(cardService.findNumbersByUserIdSlice(user.id(), pageable));
     }
 
     @GetMapping("v1/cards/me/{id}")
-    public ResponseEntity<CardResponseDTO> getCardMe(@AuthenticationPrincipal User user, @PathVariable Long id) {
-        return ResponseEntity.ok(cardService.findByIdAndUserId(id, user.getId()));
+    public ResponseEntity<CardResponseDTO> getCardMe(@AuthenticationPrincipal AuthenticatedUserDTO user, @PathVariable Long id) {
+        return ResponseEntity.ok(cardService.findByIdAndUserId(id, user.id()));
     }
 
     @GetMapping("v1/admin/cards")
@@ -50,6 +107,61 @@ public class CardController {
         return ResponseEntity.ok(cardService.findAll(pageable));
     }
 
+    @GetMapping(value = "v1/admin/cards", params = "count=false")
+    public ResponseEntity<Slice<CardResponseDTO>> getCardsSlice(@RequestParam(required = false) Long user, Pageable pageable) {
+        if (user != null) {
+            return ResponseEntity.ok(cardService.findAllByUserIdSlice(user, pageable));
+        }
+        return ResponseEntity.ok(cardService.findAllSlice(pageable));
+    }
+
+    @GetMapping("v1/admin/cards/cursor")
+    public ResponseEntity<CursorPageDTO<CardResponseDTO>> getCardsByCursor(
+        @RequestParam(required = false) Long user,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        if (user != null) {
+            return ResponseEntity.ok(cardService.findAllByUserIdAfter(user, after, size));
+        }
+        return ResponseEntity.ok(cardService.findAllAfter(after, size));
+    }
+
+    @GetMapping("v1/admin/cards/numbers")
+    public ResponseEntity<Slice<Long>> getCardNumbers(@RequestParam Long user, Pageable pageable) {
+        return ResponseEntity.ok(cardService.findNumbersByUserIdSlice(user, pageable));
+    }
+
+    // Corpo escrito fora da thread da requisição enquanto a consulta é lida; com Accept-Encoding: gzip comprime no caminho.
+    // Só esta resposta assíncrona ganha o timeout longo; as demais seguem com o padrão do servidor.
+    @GetMapping("v1/admin/cards/export")
+    public ResponseEntity<StreamingResponseBody> exportCards(
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        ServletWebRequest request
+    ) {
+        CardExportService.Format exportFormat = CardExportService.Format.from(format);
+
+        if (exportFormat == null) return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("cards." + exportFormat.extension()).build().toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!gzip) return response.body(output -> cardExportService.export(exportFormat, output));
+
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(output -> {
+            GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+            cardExportService.export(exportFormat, compressed);
+            compressed.finish();
+        });
+    }
+
     @GetMapping("v1/admin/cards/{id}")
     public ResponseEntity<CardResponseDTO> getCard(@PathVariable Long id) {
         return ResponseEntity.ok(cardService.findById(id));
@@ -60,15 +172,24 @@ public class CardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(cardService.create(newCardRequest));
     }
 
+    @PostMapping("v1/admin/cards/batch")
+    public ResponseEntity<CardBatchResponseDTO> createCardBatch(@RequestBody @Valid NewCardBatchRequestDTO newCardBatchRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(cardService.createBatch(newCardBatchRequest));
+    }
+
     @PatchMapping("v1/admin/cards/{id}")
     public ResponseEntity<CardResponseDTO> updateCard(@PathVariable Long id, @RequestBody @Valid UpdateCardRequestDTO RequestUpdateCard) {
         return ResponseEntity.status(HttpStatus.OK).body(cardService.update(id, RequestUpdateCard));
     }
 
     @DeleteMapping("v1/admin/cards")
-    public ResponseEntity<Object> deleteCard(@RequestBody @Valid DeleteCardListRequestDTO RequestDeleteCard) {
-        cardService.deleteAll(RequestDeleteCard);
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+    public ResponseEntity<DeleteCardListResponseDTO> deleteCard(@RequestBody @Valid DeleteCardListRequestDTO RequestDeleteCard) {
+        return ResponseEntity.ok(cardService.deleteAll(RequestDeleteCard));
+    }
+
+    // 304 respondido só com a versão do usuário em memória, sem consulta nem serialização
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
     }
 
 }
@@ -0,0 +1,8 @@
+package com.urbanape.api.domain.cards.dtos;
+
+public record CardBatchItemResultDTO(
+    int index,
+    Long userId,
+    CardResponseDTO card,
+    String error
+) {}
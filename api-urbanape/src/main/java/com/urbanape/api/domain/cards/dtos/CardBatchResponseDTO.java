@@ -0,0 +1,9 @@
+package com.urbanape.api.domain.cards.dtos;
+
+import java.util.List;
+
+public record CardBatchResponseDTO(
+    int created,
+    int failed,
+    List<CardBatchItemResultDTO> results
+) {}
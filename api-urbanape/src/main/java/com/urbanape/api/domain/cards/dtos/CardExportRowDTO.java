@@ -0,0 +1,11 @@
+package com.urbanape.api.domain.cards.dtos;
+
+import com.urbanape.api.domain.cards.entities.CardType;
+
+public record CardExportRowDTO(
+    Long number,
+    String title,
+    Boolean status,
+    CardType type,
+    Long userId
+) {}
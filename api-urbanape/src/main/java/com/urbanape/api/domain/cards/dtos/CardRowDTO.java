@@ -0,0 +1,12 @@
+package com.urbanape.api.domain.cards.dtos;
+
+import com.urbanape.api.domain.cards.entities.CardType;
+
+// Linha da paginação por cursor: record é a chave do cursor e não vai na resposta
+public record CardRowDTO(
+    Long record,
+    Long number,
+    String title,
+    Boolean status,
+    CardType type
+) {}
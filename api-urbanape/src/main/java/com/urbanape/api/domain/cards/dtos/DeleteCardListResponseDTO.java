@@ -0,0 +1,5 @@
+package com.urbanape.api.domain.cards.dtos;
+
+public record DeleteCardListResponseDTO(
+    int cards
+) {}
@@ -0,0 +1,13 @@
+package com.urbanape.api.domain.cards.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record NewCardBatchRequestDTO(
+    @NotEmpty(message = "Cards are required")
+    @Size(max = 50000, message = "A batch must have at most 50000 cards")
+    List<@Valid NewCardRequestDTO> cards
+) {}
@@ -1,6 +1,11 @@
 package com.urbanape.api.domain.cards.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,8 +19,12 @@ import jakarta.persistence.JoinColumn;
 
 @Entity(name = "Card")
 @Table(name = "cards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Card.CACHE_REGION)
 public class Card {
 
+    public static final String CACHE_REGION = "cards";
+
     @Id
     @Column(name = "number", unique = true, nullable = false)
     private Long number;
@@ -30,7 +39,7 @@ public class Card {
     @Enumerated(EnumType.STRING)
     private CardType type;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
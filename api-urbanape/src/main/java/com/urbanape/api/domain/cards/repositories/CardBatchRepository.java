@@ -0,0 +1,10 @@
+package com.urbanape.api.domain.cards.repositories;
+
+import java.util.List;
+
+import com.urbanape.api.domain.cards.entities.Card;
+
+public interface CardBatchRepository {
+
+    void insertAll(List<Card> cards);
+}
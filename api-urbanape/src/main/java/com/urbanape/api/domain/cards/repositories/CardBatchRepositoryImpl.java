@@ -0,0 +1,37 @@
+package com.urbanape.api.domain.cards.repositories;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+
+public class CardBatchRepositoryImpl implements CardBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT =
+        "INSERT INTO cards (number, title, status, type, user_id, is_deleted) VALUES (?, ?, ?, ?, ?, FALSE)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    // save() faria um SELECT por cartão, já que o número é atribuído pela aplicação (merge)
+    @Override
+    public void insertAll(List<Card> cards) {
+        jdbcTemplate.batchUpdate(INSERT, cards, BATCH_SIZE, (ps, card) -> {
+            ps.setLong(1, card.getNumber());
+            ps.setString(2, card.getTitle());
+            ps.setBoolean(3, card.getStatus());
+            ps.setString(4, card.getType().name());
+            ps.setLong(5, card.getUser().getId());
+        });
+
+        secondLevelCacheEvictor.evictAfterCommit(Card.class);
+    }
+}
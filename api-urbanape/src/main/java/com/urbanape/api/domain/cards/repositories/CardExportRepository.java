@@ -0,0 +1,10 @@
+package com.urbanape.api.domain.cards.repositories;
+
+import java.util.function.Consumer;
+
+import com.urbanape.api.domain.cards.dtos.CardExportRowDTO;
+
+public interface CardExportRepository {
+
+    void forEachNotDeleted(Consumer<CardExportRowDTO> action);
+}
@@ -0,0 +1,42 @@
+package com.urbanape.api.domain.cards.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.urbanape.api.domain.cards.dtos.CardExportRowDTO;
+import com.urbanape.api.domain.cards.entities.CardType;
+
+public class CardExportRepositoryImpl implements CardExportRepository {
+
+    private static final String SELECT =
+        "SELECT number, title, status, type, user_id FROM cards WHERE is_deleted = FALSE ORDER BY record";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${api.cards.export.fetch-size:1000}")
+    private int fetchSize;
+
+    // Cursor no servidor: dentro de uma transação o driver do PostgreSQL traz fetchSize linhas por vez,
+    // e cada linha é entregue e descartada, então a memória não cresce com o tamanho da tabela
+    @Override
+    public void forEachNotDeleted(Consumer<CardExportRowDTO> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) row -> action.accept(new CardExportRowDTO(
+            row.getLong("number"),
+            row.getString("title"),
+            row.getBoolean("status"),
+            CardType.valueOf(row.getString("type")),
+            row.getLong("user_id")
+        )));
+    }
+}
@@ -1,41 +1,83 @@
 package com.urbanape.api.domain.cards.repositories;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
+import com.urbanape.api.domain.cards.dtos.CardRowDTO;
 import com.urbanape.api.domain.cards.entities.Card;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, CardBatchRepository, CardExportRepository {
 
+    // nextval escreve na sequence: sempre no primário, mesmo se chamado fora de uma transação de escrita
+    @Transactional
     @Query(value = "SELECT nextval('card_number_seq')", nativeQuery = true)
     Long nextCardNumber();
 
-    @Query("SELECT c FROM Card c WHERE c.isDeleted = FALSE ORDER BY c.record ASC")
-    Page<Card> findAllNotDeleted(Pageable pageable);
+    // Leituras projetadas direto no DTO: uma consulta só em cards, sem carregar o dono
+    @Query("SELECT new com.urbanape.api.domain.cards.dtos.CardResponseDTO(c.number, c.title, c.status, c.type) FROM Card c WHERE c.isDeleted = FALSE ORDER BY c.record ASC")
+    Slice<CardResponseDTO> findSliceNotDeleted(Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Card c WHERE c.isDeleted = FALSE")
+    long countNotDeleted();
 
-    @Query("SELECT c FROM Card c WHERE c.isDeleted = FALSE AND c.number IN :numbers ORDER BY c.record ASC")
-    Page<Card> findAllNotDeletedByNumbers(@Param("numbers") Set<Long> numbers, Pageable pageable);
+    @Query("SELECT new com.urbanape.api.domain.cards.dtos.CardRowDTO(c.record, c.number, c.title, c.status, c.type) FROM Card c WHERE c.isDeleted = FALSE AND c.record > :after ORDER BY c.record ASC")
+    List<CardRowDTO> findNotDeletedAfter(@Param("after") long after, Pageable pageable);
 
+    // Operações em massa recebem um array (= ANY) em vez de IN: um único parâmetro e um único SQL para qualquer
+    // quantidade de ids. Conjuntos grandes são divididos pelo BulkIdChunker.
+    @Query(value = "SELECT DISTINCT user_id FROM cards WHERE number = ANY(:numbers)", nativeQuery = true)
+    List<Long> findUserIdsByNumbers(@Param("numbers") Long[] numbers);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cards"))
     @Modifying(clearAutomatically = true)
-    @Query(value = "UPDATE cards SET is_deleted = TRUE WHERE number IN :numbers", nativeQuery = true)
-    void softDeleteAllByNumbers(@Param("numbers") Set<Long> numbers);
+    @Query(value = "UPDATE cards SET is_deleted = TRUE WHERE number = ANY(:numbers) AND is_deleted = FALSE", nativeQuery = true)
+    int softDeleteAllByNumbers(@Param("numbers") Long[] numbers);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cards"))
     @Modifying(clearAutomatically = true)
-    @Query(value = "UPDATE cards SET is_deleted = TRUE WHERE user_id IN :userIds", nativeQuery = true)
-    void softDeleteAllByUserIds(@Param("userIds") Set<Long> userIds);
+    @Query(value = "UPDATE cards SET is_deleted = TRUE WHERE user_id = ANY(:userIds) AND is_deleted = FALSE", nativeQuery = true)
+    int softDeleteAllByUserIds(@Param("userIds") Long[] userIds);
+
+    // Até limit números por vez (cards_user_record_active_idx), removidos depois com softDeleteAllByNumbers: um usuário
+    // com muitos cartões sai em vários UPDATEs curtos, e não num só que cresce com o número de cartões
+    @Query(value = "SELECT number FROM cards WHERE user_id = ANY(:userIds) AND is_deleted = FALSE LIMIT :limit", nativeQuery = true)
+    List<Long> findNotDeletedNumbersByUserIds(@Param("userIds") Long[] userIds, @Param("limit") int limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.urbanape.api.domain.cards.dtos.CardResponseDTO(c.number, c.title, c.status, c.type) FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE ORDER BY c.record ASC")
+    Slice<CardResponseDTO> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Só os números, sem hidratar Card: usado no UserResponseDTO
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c.number FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE ORDER BY c.record ASC")
+    List<Long> findNumbersByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c.number FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE ORDER BY c.record ASC")
+    Slice<Long> findNumberSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT COUNT(c) FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE")
+    long countNotDeletedByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT c FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE ORDER BY c.record ASC")
-    Page<Card> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT new com.urbanape.api.domain.cards.dtos.CardRowDTO(c.record, c.number, c.title, c.status, c.type) FROM Card c WHERE c.user.id = :userId AND c.isDeleted = FALSE AND c.record > :after ORDER BY c.record ASC")
+    List<CardRowDTO> findByUserIdAfter(@Param("userId") Long userId, @Param("after") long after, Pageable pageable);
 
-    @Query("SELECT c FROM Card c WHERE c.user.id = :userId AND c.id = :id AND c.isDeleted = FALSE ORDER BY c.record ASC")
-    Optional<Card> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.urbanape.api.domain.cards.dtos.CardResponseDTO(c.number, c.title, c.status, c.type) FROM Card c WHERE c.user.id = :userId AND c.id = :id AND c.isDeleted = FALSE")
+    Optional<CardResponseDTO> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
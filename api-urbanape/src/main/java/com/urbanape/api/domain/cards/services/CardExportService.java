@@ -0,0 +1,105 @@
+package com.urbanape.api.domain.cards.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.urbanape.api.domain.cards.dtos.CardExportRowDTO;
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+// Exportação completa dos cartões ativos para o consórcio: uma única consulta percorrida por cursor,
+// escrita linha a linha na resposta
+@Service
+public class CardExportService {
+
+    private static final String CSV_HEADER = "number,title,status,type,userId\n";
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) return format;
+            }
+            return null;
+        }
+    }
+
+    // Somente leitura: o cursor precisa de uma transação e a consulta pode ir para uma réplica
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) writer.write(CSV_HEADER);
+
+        try {
+            cardRepository.forEachNotDeleted(row -> write(writer, format, row));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void write(Writer writer, Format format, CardExportRowDTO row) {
+        try {
+            if (format == Format.CSV) {
+                writer.write(toCsv(row));
+            } else {
+                writer.write(jsonMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException exception) {
+            // Cliente desconectou: a exceção interrompe a leitura do cursor
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String toCsv(CardExportRowDTO row) {
+        return row.number() + "," + csvField(row.title()) + "," + row.status() + "," + row.type() + "," + row.userId();
+    }
+
+    static String csvField(String value) {
+        // Texto iniciado por =, +, - ou @ seria interpretado como fórmula ao abrir a planilha
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) value = "'" + value;
+
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,23 +1,42 @@
 package com.urbanape.api.domain.cards.services;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanape.api.domain.cards.components.CardNumberAllocator;
+import com.urbanape.api.domain.cards.dtos.CardBatchItemResultDTO;
+import com.urbanape.api.domain.cards.dtos.CardBatchResponseDTO;
 import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
+import com.urbanape.api.domain.cards.dtos.CardRowDTO;
 import com.urbanape.api.domain.cards.dtos.DeleteCardListRequestDTO;
+import com.urbanape.api.domain.cards.dtos.DeleteCardListResponseDTO;
+import com.urbanape.api.domain.cards.dtos.NewCardBatchRequestDTO;
 import com.urbanape.api.domain.cards.dtos.NewCardRequestDTO;
 import com.urbanape.api.domain.cards.dtos.UpdateCardRequestDTO;
 import com.urbanape.api.domain.cards.entities.Card;
 import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.events.UsersDeletedEvent;
 import com.urbanape.api.domain.users.services.UserService;
-
-import jakarta.transaction.Transactional;
+import com.urbanape.api.infra.bulk.BulkIdChunker;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
+import com.urbanape.api.infra.pagination.CursorCodec;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 @Service
 public class CardService {
@@ -25,32 +44,77 @@ public class CardService {
     @Autowired
     private CardRepository cardRepository;
 
-    @Autowired @Lazy
+    @Autowired
     private UserService userService;
 
-    private static final String PREFIX = "7777";
+    @Autowired
+    private CardNumberAllocator cardNumberAllocator;
+
+    @Autowired
+    private TotalCountCache totalCountCache;
+
+    @Autowired
+    private UserVersionRegistry userVersionRegistry;
+
+    @Autowired
+    private BulkIdChunker bulkIdChunker;
 
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    public static final String COUNT_KEY = "cards";
+
+    private static final long PREFIX = 7777;
+
+    private static final long MIN_SUFFIX_SCALE = 100_000_000_000L;
+
+    private static final long MIN_CARD_NUMBER = PREFIX * MIN_SUFFIX_SCALE * 10;
+
+    private static final long MAX_CARD_NUMBER = 100_000_000_000_000_000L;
+
+    // O total vem do cache e só é contado quando não dá para deduzi-lo da própria página
+    @Transactional(readOnly = true)
     public Page<CardResponseDTO> findAll(Pageable pageable) {
-        Page<CardResponseDTO> cards = cardRepository.findAllNotDeleted(pageable)
-            .map(card -> mapCardToDTO(card));
+        Slice<CardResponseDTO> cards = cardRepository.findSliceNotDeleted(pageable);
 
-        return cards;
+        return PageableExecutionUtils.getPage(cards.getContent(), pageable,
+            () -> totalCountCache.get(COUNT_KEY, cardRepository::countNotDeleted)
+        );
     }
 
+    @Transactional(readOnly = true)
+    public Slice<CardResponseDTO> findAllSlice(Pageable pageable) {
+        return cardRepository.findSliceNotDeleted(pageable);
+    }
+
+    // Paginação por chave: busca direto a partir do último record, sem OFFSET
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CardResponseDTO> findAllAfter(String cursor, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<CardRowDTO> rows = cardRepository.findNotDeletedAfter(CursorCodec.decode(cursor), PageRequest.of(0, limit + 1));
+        return CursorPageDTO.of(rows, limit, CardRowDTO::record, this::mapRowToDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CardResponseDTO> findAllByUserIdAfter(Long userId, String cursor, int size) {
+        int limit = CursorPageDTO.limit(size);
+        List<CardRowDTO> rows = cardRepository.findByUserIdAfter(userId, CursorCodec.decode(cursor), PageRequest.of(0, limit + 1));
+        return CursorPageDTO.of(rows, limit, CardRowDTO::record, this::mapRowToDTO);
+    }
+
+    @Transactional(readOnly = true)
     public CardResponseDTO findById(Long id) {
         return cardRepository.findById(id).map(card -> mapCardToDTO(card)).orElse(null);
     }
 
     @Transactional
     public CardResponseDTO create(NewCardRequestDTO requestNewCardDTO) {
-        Long sequence = cardRepository.nextCardNumber();
-
-        Long cardNumber = generateCardNumber(sequence);
-
         User user = userService.findEntityById(requestNewCardDTO.userId());
 
         if (user == null) return null;
 
+        Long cardNumber = generateCardNumber(cardNumberAllocator.next());
+
         Card card = new Card(
             cardNumber,
             requestNewCardDTO.title(),
@@ -60,10 +124,54 @@ public class CardService {
         );
 
         cardRepository.save(card);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(Set.of(user.getId()));
 
         return mapCardToDTO(card);
     }
 
+    @Transactional
+    public CardBatchResponseDTO createBatch(NewCardBatchRequestDTO requestNewCardBatchDTO) {
+        List<NewCardRequestDTO> items = requestNewCardBatchDTO.cards();
+
+        Map<Long, User> users = userService.findEntitiesByIds(
+            items.stream().map(NewCardRequestDTO::userId).collect(Collectors.toSet())
+        );
+
+        long accepted = items.stream().filter(item -> users.containsKey(item.userId())).count();
+        long[] sequences = cardNumberAllocator.allocate((int) accepted);
+
+        List<Card> cards = new ArrayList<>();
+        List<CardBatchItemResultDTO> results = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            NewCardRequestDTO item = items.get(index);
+            User user = users.get(item.userId());
+
+            if (user == null) {
+                results.add(new CardBatchItemResultDTO(index, item.userId(), null, "User not found"));
+                continue;
+            }
+
+            Card card = new Card(
+                generateCardNumber(sequences[cards.size()]),
+                item.title(),
+                true,
+                item.type(),
+                user
+            );
+
+            cards.add(card);
+            results.add(new CardBatchItemResultDTO(index, item.userId(), mapCardToDTO(card), null));
+        }
+
+        cardRepository.insertAll(cards);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(users.keySet());
+
+        return new CardBatchResponseDTO(cards.size(), items.size() - cards.size(), results);
+    }
+
     @Transactional
     public CardResponseDTO update(Long id, UpdateCardRequestDTO requestUpdateCardDTO) {
         Card card = cardRepository.findById(id).orElse(null);
@@ -75,48 +183,115 @@ public class CardService {
         if (requestUpdateCardDTO.status() != null) card.setStatus(requestUpdateCardDTO.status());
 
         cardRepository.save(card);
+        userVersionRegistry.bump(Set.of(card.getUser().getId()));
 
         return mapCardToDTO(card);
     }
 
     @Transactional
-    public void deleteAll(DeleteCardListRequestDTO requestDeleteCardDTO) {
-        cardRepository.softDeleteAllByNumbers(requestDeleteCardDTO.numbers());
+    public DeleteCardListResponseDTO deleteAll(DeleteCardListRequestDTO requestDeleteCardDTO) {
+        Set<Long> numbers = requestDeleteCardDTO.numbers();
+        List<Long> userIds = bulkIdChunker.query(numbers, cardRepository::findUserIdsByNumbers);
+        int deleted = bulkIdChunker.update(numbers, cardRepository::softDeleteAllByNumbers);
+        secondLevelCacheEvictor.evict(Card.class);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(userIds);
+
+        return new DeleteCardListResponseDTO(deleted);
     }
 
+    // Cascata da remoção de usuários: roda na transação de UserService.delete. O JobWorker já removeu os cartões em
+    // lotes (deleteChunkByUserIds); aqui só sobram os criados depois do último lote
+    @EventListener
     @Transactional
-    public void deleteAllByUserIds(Set<Long> userIds) {
-        cardRepository.softDeleteAllByUserIds(userIds);
+    public void onUsersDeleted(UsersDeletedEvent event) {
+        deleteAllByUserIds(event.userIds());
     }
 
+    @Transactional
+    public int deleteAllByUserIds(Set<Long> userIds) {
+        int deleted = bulkIdChunker.update(userIds, cardRepository::softDeleteAllByUserIds);
+        secondLevelCacheEvictor.evict(Card.class);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(userIds);
+
+        return deleted;
+    }
+
+    // Usado pelo JobWorker antes de remover os usuários: cada chamada é uma transação com um UPDATE de até limit cartões
+    @Transactional
+    public int deleteChunkByUserIds(Set<Long> userIds, int limit) {
+        List<Long> numbers = cardRepository.findNotDeletedNumbersByUserIds(userIds.toArray(Long[]::new), limit);
+        if (numbers.isEmpty()) return 0;
+
+        int deleted = cardRepository.softDeleteAllByNumbers(numbers.toArray(Long[]::new));
+
+        secondLevelCacheEvictor.evict(Card.class);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(userIds);
+
+        return deleted;
+    }
+
+    @Transactional(readOnly = true)
     public Page<CardResponseDTO> findAllByUserId(Long userId, Pageable pageable) {
-        Page<CardResponseDTO> cards = cardRepository.findAllByUserId(userId, pageable)
-            .map(card -> mapCardToDTO(card));
-        return cards;
+        Slice<CardResponseDTO> cards = cardRepository.findSliceByUserId(userId, pageable);
+
+        return PageableExecutionUtils.getPage(cards.getContent(), pageable,
+            () -> totalCountCache.get(COUNT_KEY + ":user:" + userId, () -> cardRepository.countNotDeletedByUserId(userId))
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CardResponseDTO> findAllByUserIdSlice(Long userId, Pageable pageable) {
+        return cardRepository.findSliceByUserId(userId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findNumbersByUserId(Long userId) {
+        return cardRepository.findNumbersByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Long> findNumbersByUserIdSlice(Long userId, Pageable pageable) {
+        return cardRepository.findNumberSliceByUserId(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public CardResponseDTO findByIdAndUserId(Long id, Long userId) {
-        return cardRepository.findByIdAndUserId(id, userId)
-            .map(card -> mapCardToDTO(card)).orElse(null);
+        return cardRepository.findByIdAndUserId(id, userId).orElse(null);
     }
 
-    public static Long generateCardNumber(long sequence) {
-        
+    public static long generateCardNumber(long sequence) {
         long obfuscated = (sequence * 7919) % 1_000_000_000_000L;
 
-        String base = PREFIX + String.format("%011d", obfuscated);
+        // Equivale a PREFIX + "%011d": o sufixo tem no mínimo 11 dígitos, mas pode ter 12
+        long scale = obfuscated >= MIN_SUFFIX_SCALE ? 1_000_000_000_000L : MIN_SUFFIX_SCALE;
+        long base = PREFIX * scale + obfuscated;
+
+        return base * 10 + checkDigit(base);
+    }
+
+    public static boolean isValidCardNumber(long number) {
+        if (number < MIN_CARD_NUMBER || number >= MAX_CARD_NUMBER) return false;
 
-        int checkDigit = luhn(base);
+        long leading = number;
+        while (leading >= 10_000) leading /= 10;
 
-        return Long.parseLong(base) * 10 + checkDigit;
+        return leading == PREFIX && luhnSum(number, false) % 10 == 0;
     }
 
-    private static int luhn(String number) {
+    private static int checkDigit(long base) {
+        return (10 - luhnSum(base, true) % 10) % 10;
+    }
+
+    // Percorre os dígitos da direita para a esquerda, dobrando os alternados
+    private static int luhnSum(long number, boolean doubleFirst) {
         int sum = 0;
-        boolean alternate = true;
+        boolean alternate = doubleFirst;
 
-        for (int i = number.length() - 1; i >= 0; i--) {
-            int n = number.charAt(i) - '0';
+        for (long rest = number; rest > 0; rest /= 10) {
+            int n = (int) (rest % 10);
             if (alternate) {
                 n *= 2;
                 if (n > 9) n -= 9;
@@ -124,7 +299,7 @@ public class CardService {
             sum += n;
             alternate = !alternate;
         }
-        return (10 - (sum % 10)) % 10;
+        return sum;
     }
 
     private CardResponseDTO mapCardToDTO(Card card) {
@@ -135,4 +310,8 @@ public class CardService {
             card.getType()
         );
     }
+
+    private CardResponseDTO mapRowToDTO(CardRowDTO row) {
+        return new CardResponseDTO(row.number(), row.title(), row.status(), row.type());
+    }
 }
@@ -0,0 +1,127 @@
+package com.urbanape.api.domain.jobs.components;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.jobs.entities.Job;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.repositories.JobRepository;
+import com.urbanape.api.domain.users.services.UserService;
+
+/*
+ * Processa a fila de tarefas da tabela jobs em lotes de chunk-size ids. Cada lote é uma transação
+ * curta: bloqueia a tarefa (SKIP LOCKED, então outras instâncias pegam outra tarefa), executa o lote
+ * e grava o progresso. Se o lote falhar ele é desfeito, a falha é registrada e a tarefa é retomada do
+ * mesmo ponto na próxima rodada, até max-attempts falhas.
+ *
+ * Na remoção de usuários os cartões do lote saem antes, até card-chunk-size por transação; os usuários
+ * só são removidos na transação em que sobram menos cartões que isso, então nenhum UPDATE cresce com o
+ * número de cartões de um usuário.
+ */
+@Component
+@ConditionalOnProperty(name = "api.jobs.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class JobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobWorker.class);
+
+    private final JobRepository jobRepository;
+
+    private final UserService userService;
+
+    private final CardService cardService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+
+    private final int cardChunkSize;
+
+    private final int maxAttempts;
+
+    public JobWorker(
+        JobRepository jobRepository,
+        UserService userService,
+        CardService cardService,
+        PlatformTransactionManager transactionManager,
+        @Value("${api.jobs.chunk-size:500}") int chunkSize,
+        @Value("${api.jobs.card-chunk-size:5000}") int cardChunkSize,
+        @Value("${api.jobs.max-attempts:5}") int maxAttempts
+    ) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Job chunk size must be positive");
+        if (cardChunkSize < 1) throw new IllegalArgumentException("Job card chunk size must be positive");
+
+        this.jobRepository = jobRepository;
+        this.userService = userService;
+        this.cardService = cardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.cardChunkSize = cardChunkSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // Esvazia a fila a cada rodada; uma falha encerra a rodada para a tarefa não ser repetida sem intervalo
+    @Scheduled(fixedDelayString = "${api.jobs.poll-interval:1s}")
+    public void poll() {
+        while (processNextChunk()) {
+            // próximo lote
+        }
+    }
+
+    boolean processNextChunk() {
+        AtomicReference<Claim> claim = new AtomicReference<>();
+
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Job job = jobRepository.lockNextRunnable().orElse(null);
+                if (job == null) return false;
+
+                claim.set(new Claim(job.getId(), job.getType(), job.getProcessed()));
+                run(job);
+                jobRepository.save(job);
+                return true;
+            }));
+        } catch (RuntimeException exception) {
+            Claim failed = claim.get();
+            if (failed == null) throw exception;
+
+            logger.warn("Erro ao processar a tarefa {} ({}) a partir do item {}", failed.jobId(), failed.type(), failed.offset(), exception);
+            String error = "Chunk starting at item " + failed.offset() + " failed: " + exception.getClass().getSimpleName();
+
+            transactionTemplate.executeWithoutResult(status -> jobRepository.lockById(failed.jobId()).ifPresent(job -> {
+                job.fail(error, maxAttempts);
+                jobRepository.save(job);
+            }));
+            return false;
+        }
+    }
+
+    private void run(Job job) {
+        switch (job.getType()) {
+            case USER_DELETION -> deleteUsers(job);
+        }
+    }
+
+    private void deleteUsers(Job job) {
+        Set<Long> userIds = new LinkedHashSet<>(Arrays.asList(job.nextTargets(chunkSize)));
+
+        int cards = cardService.deleteChunkByUserIds(userIds, cardChunkSize);
+        if (cards > 0) job.advanceCards(cards);
+        if (cards >= cardChunkSize) return;
+
+        job.advance(userIds.size(), userService.delete(userIds));
+    }
+
+    private record Claim(Long jobId, JobType type, int offset) {}
+}
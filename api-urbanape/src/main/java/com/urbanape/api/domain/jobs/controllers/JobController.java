@@ -0,0 +1,30 @@
+package com.urbanape.api.domain.jobs.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.services.JobService;
+
+@RestController
+@RequestMapping("api/")
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    @GetMapping("v1/admin/jobs/{id}")
+    public ResponseEntity<JobResponseDTO> getJob(@PathVariable Long id) {
+
+        JobResponseDTO job = jobService.findById(id);
+
+        if (job == null) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+
+        return ResponseEntity.ok(job);
+    }
+}
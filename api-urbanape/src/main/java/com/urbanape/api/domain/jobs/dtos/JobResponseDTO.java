@@ -0,0 +1,19 @@
+package com.urbanape.api.domain.jobs.dtos;
+
+import java.time.Instant;
+
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+
+public record JobResponseDTO(
+    Long id,
+    JobType type,
+    JobStatus status,
+    int total,
+    int processed,
+    int affected,
+    int cardsAffected,
+    String error,
+    Instant createdAt,
+    Instant updatedAt
+) {}
@@ -0,0 +1,144 @@
+package com.urbanape.api.domain.jobs.entities;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity(name = "Job")
+@Table(name = "jobs")
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobType type;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(name = "target_ids", nullable = false)
+    private Long[] targetIds;
+
+    @Column(name = "total", nullable = false)
+    private Integer total;
+
+    @Column(name = "processed", nullable = false)
+    private Integer processed = 0;
+
+    @Column(name = "affected", nullable = false)
+    private Integer affected = 0;
+
+    @Column(name = "cards_affected", nullable = false)
+    private Integer cardsAffected = 0;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Job() {}
+
+    public Job(JobType type, Long[] targetIds) {
+        this.type = type;
+        this.targetIds = targetIds;
+        this.total = targetIds.length;
+        this.createdAt = Instant.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    // Próximos ids ainda não processados, no máximo size
+    public Long[] nextTargets(int size) {
+        return Arrays.copyOfRange(targetIds, processed, Math.min(total, processed + size));
+    }
+
+    // Registra um lote concluído; a tarefa termina quando todos os ids foram processados
+    public void advance(int count, int affectedRows) {
+        processed += count;
+        affected += affectedRows;
+        error = null;
+        status = processed >= total ? JobStatus.DONE : JobStatus.RUNNING;
+        updatedAt = Instant.now();
+    }
+
+    // Lote de cartões removido antes dos usuários do lote atual; processed só avança com advance
+    public void advanceCards(int affectedRows) {
+        cardsAffected += affectedRows;
+        error = null;
+        status = JobStatus.RUNNING;
+        updatedAt = Instant.now();
+    }
+
+    public void fail(String message, int maxAttempts) {
+        attempts++;
+        error = message;
+        if (attempts >= maxAttempts) status = JobStatus.FAILED;
+        updatedAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public JobType getType() {
+        return type;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public Long[] getTargetIds() {
+        return targetIds;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public Integer getProcessed() {
+        return processed;
+    }
+
+    public Integer getAffected() {
+        return affected;
+    }
+
+    public Integer getCardsAffected() {
+        return cardsAffected;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
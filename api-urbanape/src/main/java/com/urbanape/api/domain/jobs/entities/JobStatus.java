@@ -0,0 +1,8 @@
+package com.urbanape.api.domain.jobs.entities;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
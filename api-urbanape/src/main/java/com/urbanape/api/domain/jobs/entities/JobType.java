@@ -0,0 +1,5 @@
+package com.urbanape.api.domain.jobs.entities;
+
+public enum JobType {
+    USER_DELETION
+}
@@ -0,0 +1,26 @@
+package com.urbanape.api.domain.jobs.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.urbanape.api.domain.jobs.entities.Job;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    // Bloqueia a tarefa mais antiga ainda não concluída até o fim da transação; tarefas já bloqueadas por outra
+    // instância são puladas, então várias instâncias processam tarefas diferentes sem esperar umas pelas outras
+    @Query(value = "SELECT * FROM jobs WHERE status IN ('PENDING', 'RUNNING') ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Job> lockNextRunnable();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id = :id")
+    Optional<Job> lockById(@Param("id") Long id);
+}
@@ -0,0 +1,47 @@
+package com.urbanape.api.domain.jobs.services;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.entities.Job;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.repositories.JobRepository;
+
+@Service
+public class JobService {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    // Ids em ordem crescente: os lotes do worker bloqueiam as linhas sempre na mesma ordem
+    @Transactional
+    public JobResponseDTO enqueueUserDeletion(Set<Long> userIds) {
+        Job job = new Job(JobType.USER_DELETION, userIds.stream().sorted().toArray(Long[]::new));
+        return mapJobToDTO(jobRepository.save(job));
+    }
+
+    // Lido do primário: logo depois do 202 a réplica pode ainda não ter a tarefa
+    @Transactional
+    public JobResponseDTO findById(Long id) {
+        return jobRepository.findById(id).map(this::mapJobToDTO).orElse(null);
+    }
+
+    private JobResponseDTO mapJobToDTO(Job job) {
+        return new JobResponseDTO(
+            job.getId(),
+            job.getType(),
+            job.getStatus(),
+            job.getTotal(),
+            job.getProcessed(),
+            job.getAffected(),
+            job.getCardsAffected(),
+            job.getError(),
+            job.getCreatedAt(),
+            job.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.urbanape.api.domain.users.components;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.urbanape.api.infra.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+
+// Versão por usuário usada nos ETags de /users/me e /cards/me.
+// Sem entrada no cache (primeiro acesso, escrita, TTL) o usuário recebe uma versão nunca emitida antes,
+// então no pior caso a resposta volta 200 em vez de 304, nunca o contrário.
+// O registro é local à instância: uma escrita feita em outra instância só muda o ETag depois do TTL.
+@Component
+public class UserVersionRegistry {
+
+    private final Cache<Long, Long> versions;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // Muda a cada inicialização, para não repetir ETags emitidos antes de um restart
+    private final String nonce = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    public UserVersionRegistry(
+        @Value("${api.etag.user-versions.max-size:100000}") long maxSize,
+        @Value("${api.etag.user-versions.ttl:1m}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "user-versions");
+    }
+
+    public long current(Long userId) {
+        return versions.get(userId, id -> clock.incrementAndGet());
+    }
+
+    // ETag forte: versão do usuário + URI e query string (página, tamanho e ordenação mudam o corpo)
+    public String etag(Long userId, HttpServletRequest request) {
+        String variant = request.getRequestURI() + "?" + request.getQueryString();
+        return "\"" + nonce + "-" + Long.toString(current(userId), 36) + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    // Só após o commit, senão uma requisição concorrente pode ler os dados antigos com a versão nova
+    public void bump(Collection<Long> userIds) {
+        AfterCommit.run(() -> versions.invalidateAll(userIds));
+    }
+}
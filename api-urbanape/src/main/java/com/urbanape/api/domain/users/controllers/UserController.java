@@ -1,8 +1,14 @@
 package com.urbanape.api.domain.users.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -10,16 +16,24 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.services.JobService;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.dtos.DeleteUserListRequestDTO;
 import com.urbanape.api.domain.users.dtos.UpdateUserRequestDTO;
+import com.urbanape.api.domain.users.dtos.UserImportReportDTO;
 import com.urbanape.api.domain.users.dtos.UserResponseDTO;
-import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.services.UserImportService;
 import com.urbanape.api.domain.users.services.UserService;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
 
 import jakarta.validation.Valid;
 
@@ -30,6 +44,15 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserVersionRegistry userVersionRegistry;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JobService jobService;
+
     @GetMapping("v1/admin/users")
     public ResponseEntity<Page<UserResponseDTO>> getUsers(@RequestParam(required = false) String search, Pageable pageable) {
         if (search == null) search = "";
@@ -37,14 +60,38 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping(value = "v1/admin/users", params = "count=false")
+    public ResponseEntity<Slice<UserResponseDTO>> getUsersSlice(@RequestParam(required = false) String search, Pageable pageable) {
+        if (search == null) search = "";
+        return ResponseEntity.ok(userService.findAllSlice(search, pageable));
+    }
+
+    @GetMapping("v1/admin/users/cursor")
+    public ResponseEntity<CursorPageDTO<UserResponseDTO>> getUsersByCursor(
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        if (search == null) search = "";
+        return ResponseEntity.ok(userService.findAllAfter(search, after, size));
+    }
+
     @GetMapping("v1/users/me")
-    public ResponseEntity<UserResponseDTO> getMe(@AuthenticationPrincipal User authenticatedUser) {
-        
-        UserResponseDTO user = userService.findById(authenticatedUser.getId());
+    public ResponseEntity<UserResponseDTO> getMe(@AuthenticationPrincipal AuthenticatedUserDTO authenticatedUser, ServletWebRequest request) {
+
+        // ETag calculado antes da consulta: se o cliente já tem a versão atual responde 304 sem ir ao banco
+        String etag = userVersionRegistry.etag(authenticatedUser.id(), request.getRequest());
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        UserResponseDTO user = userService.findById(authenticatedUser.id());
 
         if (user == null) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(user);
     }
 
     @GetMapping("v1/admin/users/{id}")
@@ -67,13 +114,20 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    // A remoção (usuários e cartões) é feita em lotes pelo JobWorker; o progresso fica em /admin/jobs/{id}
     @DeleteMapping("v1/admin/users")
-    public ResponseEntity<Void> deleteUser(@RequestBody @Valid DeleteUserListRequestDTO deleteUserRequestDTO) {
+    public ResponseEntity<JobResponseDTO> deleteUser(@RequestBody @Valid DeleteUserListRequestDTO deleteUserRequestDTO) {
 
         if (deleteUserRequestDTO.ids().isEmpty()) return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
 
-        userService.delete(deleteUserRequestDTO.ids());
+        JobResponseDTO job = jobService.enqueueUserDeletion(deleteUserRequestDTO.ids());
+
+        return ResponseEntity.accepted().location(URI.create("/api/v1/admin/jobs/" + job.id())).body(job);
+    }
 
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    // O corpo é lido direto da requisição, sem carregar o arquivo inteiro em memória
+    @PostMapping(value = "v1/admin/users/import", consumes = "text/csv")
+    public ResponseEntity<UserImportReportDTO> importUsers(InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importCsv(body));
     }
 }
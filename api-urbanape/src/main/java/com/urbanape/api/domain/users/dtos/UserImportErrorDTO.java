@@ -0,0 +1,7 @@
+package com.urbanape.api.domain.users.dtos;
+
+public record UserImportErrorDTO(
+    long line,
+    String email,
+    String error
+) {}
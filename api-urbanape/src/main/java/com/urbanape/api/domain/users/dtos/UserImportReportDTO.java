@@ -0,0 +1,11 @@
+package com.urbanape.api.domain.users.dtos;
+
+import java.util.List;
+
+public record UserImportReportDTO(
+    long rows,
+    long usersCreated,
+    long cardsCreated,
+    long failed,
+    List<UserImportErrorDTO> errors
+) {}
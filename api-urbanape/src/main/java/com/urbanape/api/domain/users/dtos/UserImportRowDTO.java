@@ -0,0 +1,23 @@
+package com.urbanape.api.domain.users.dtos;
+
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.users.entities.UserRole;
+
+public record UserImportRowDTO(
+    long line,
+    String name,
+    String email,
+    String password,
+    UserRole role,
+    String cardTitle,
+    CardType cardType
+) {
+
+    public UserImportRowDTO withPassword(String password) {
+        return new UserImportRowDTO(line, name, email, password, role, cardTitle, cardType);
+    }
+
+    public boolean hasCard() {
+        return cardTitle != null;
+    }
+}
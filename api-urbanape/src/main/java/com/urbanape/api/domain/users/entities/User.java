@@ -9,6 +9,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -21,8 +25,12 @@ import jakarta.persistence.OneToMany;
 
 @Entity(name = "User")
 @Table(name = "users", schema = "public")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User implements UserDetails {
 
+    public static final String CACHE_REGION = "users";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -43,6 +51,10 @@ public class User implements UserDetails {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
 
+    // Incrementada a cada alteração: invalida os tokens já emitidos (ver TokenRevocationRegistry)
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @OneToMany(mappedBy = "user")
     private List<Card> cards;
 
@@ -95,6 +107,14 @@ public class User implements UserDetails {
         this.isDeleted = isDeleted;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public void setRole(UserRole role) {
         this.role = role;
     }
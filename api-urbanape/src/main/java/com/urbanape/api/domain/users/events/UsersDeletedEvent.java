@@ -0,0 +1,6 @@
+package com.urbanape.api.domain.users.events;
+
+import java.util.Set;
+
+// Publicado dentro da transação que removeu os usuários; quem escuta trabalha na mesma transação
+public record UsersDeletedEvent(Set<Long> userIds) {}
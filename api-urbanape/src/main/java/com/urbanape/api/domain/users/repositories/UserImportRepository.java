@@ -0,0 +1,18 @@
+package com.urbanape.api.domain.users.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.users.dtos.UserImportRowDTO;
+
+public interface UserImportRepository {
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    Map<String, Long> copyUsers(List<UserImportRowDTO> rows);
+
+    int copyCards(List<Card> cards);
+}
@@ -0,0 +1,125 @@
+package com.urbanape.api.domain.users.repositories;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.users.dtos.UserImportRowDTO;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+
+// Carga em massa da importação: COPY para tabelas temporárias e um único INSERT ... SELECT por tabela.
+// As tabelas temporárias são da sessão e esvaziadas no commit, então cada chamada deve estar na sua própria transação.
+public class UserImportRepositoryImpl implements UserImportRepository {
+
+    private static final String SELECT_EXISTING = "SELECT email FROM users WHERE email = ANY(?)";
+
+    private static final String CREATE_USERS_STAGE =
+        "CREATE TEMP TABLE IF NOT EXISTS import_users (name VARCHAR(255), email VARCHAR(255), role VARCHAR(255), password VARCHAR(255)) ON COMMIT DELETE ROWS";
+
+    private static final String COPY_USERS = "COPY import_users (name, email, role, password) FROM STDIN WITH (FORMAT csv)";
+
+    // ON CONFLICT cobre e-mails cadastrados entre a verificação e a carga; esses não voltam no RETURNING
+    private static final String INSERT_USERS =
+        "INSERT INTO users (name, email, role, password, is_deleted) SELECT name, email, role, password, FALSE FROM import_users "
+            + "ON CONFLICT (email) DO NOTHING RETURNING id, email";
+
+    private static final String CREATE_CARDS_STAGE =
+        "CREATE TEMP TABLE IF NOT EXISTS import_cards (number BIGINT, title VARCHAR(255), type VARCHAR(255), user_id BIGINT) ON COMMIT DELETE ROWS";
+
+    private static final String COPY_CARDS = "COPY import_cards (number, title, type, user_id) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_CARDS =
+        "INSERT INTO cards (number, title, status, type, user_id, is_deleted) SELECT number, title, TRUE, type, user_id, FALSE FROM import_cards";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) return Set.of();
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING, String.class, new Object[] { emails.toArray(String[]::new) }));
+    }
+
+    @Override
+    public Map<String, Long> copyUsers(List<UserImportRowDTO> rows) {
+        if (rows.isEmpty()) return Map.of();
+
+        Map<String, Long> ids = jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection -> {
+            copy(connection, CREATE_USERS_STAGE, COPY_USERS, rows,
+                row -> List.of(row.name(), row.email(), row.role().name(), row.password()));
+
+            Map<String, Long> inserted = new HashMap<>();
+            try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(INSERT_USERS)) {
+                while (result.next()) inserted.put(result.getString("email"), result.getLong("id"));
+            }
+            return inserted;
+        });
+
+        secondLevelCacheEvictor.evictAfterCommit(User.class);
+        return ids;
+    }
+
+    @Override
+    public int copyCards(List<Card> cards) {
+        if (cards.isEmpty()) return 0;
+
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            copy(connection, CREATE_CARDS_STAGE, COPY_CARDS, cards,
+                card -> List.of(card.getNumber(), card.getTitle(), card.getType().name(), card.getUser().getId()));
+
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(INSERT_CARDS);
+            }
+        });
+
+        secondLevelCacheEvictor.evictAfterCommit(Card.class);
+        return inserted;
+    }
+
+    private static <T> void copy(Connection connection, String stage, String copy, List<T> rows, Function<T, List<Object>> columns) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(stage);
+        }
+
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (T row : rows) {
+            List<Object> values = columns.apply(row);
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) csv.append(',');
+                Object value = values.get(i);
+                if (value instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else {
+                    csv.append(value);
+                }
+            }
+            csv.append('\n');
+        }
+
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, new StringReader(csv.toString()));
+        } catch (IOException exception) {
+            throw new SQLException("Could not stream rows to COPY", exception);
+        }
+    }
+}
@@ -1,32 +1,82 @@
 package com.urbanape.api.domain.users.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.urbanape.api.domain.users.entities.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserImportRepository {
+    // Autenticação lê do primário: com réplica atrasada, um papel ou senha antigos voltariam para o PrincipalCache
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     UserDetails findByEmail(String email);
+
+    // Carga do PrincipalCache: um usuário removido não volta a autenticar depois que sai do cache
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT u FROM User u WHERE u.email = :email AND u.isDeleted = FALSE")
+    Optional<User> findNotDeletedByEmail(@Param("email") String email);
+
+    // Revogação de tokens no modo stateless: também do primário, para não aceitar uma versão já substituída
+    @Transactional
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.isDeleted = FALSE")
+    Integer findTokenVersionById(@Param("id") Long id);
     
-    @EntityGraph(attributePaths = {"cards"})
-    @Query("SELECT u FROM User u WHERE u.isDeleted = FALSE AND (LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%'))) ORDER BY u.id ASC")
-    Page<User> findAllNotDeleted(@Param("search") String search, Pageable pageable);
+    // Só os ids da página; usuários e cartões vêm depois em findAllWithCardsByIds, sem paginar o JOIN FETCH em memória
+    @Query("SELECT u.id FROM User u WHERE u.isDeleted = FALSE ORDER BY u.id ASC")
+    Slice<Long> findNotDeletedIds(Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.isDeleted = FALSE")
+    long countNotDeleted();
     
-    @Query("SELECT u FROM User u LEFT JOIN FETCH u.cards WHERE u.isDeleted = FALSE AND u.id = :id")
+    // Busca por trigramas (índice users_search_trgm_idx); pattern chega com %, _ e \ escapados
+    @Query(value = "SELECT u.id FROM users u WHERE u.is_deleted = FALSE AND user_search_text(u.name, u.email) LIKE '%' || immutable_unaccent(LOWER(:pattern)) || '%' ORDER BY word_similarity(immutable_unaccent(LOWER(:search)), user_search_text(u.name, u.email)) DESC, u.id ASC", nativeQuery = true)
+    Slice<Long> searchNotDeletedIds(@Param("pattern") String pattern, @Param("search") String search, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM users u WHERE u.is_deleted = FALSE AND user_search_text(u.name, u.email) LIKE '%' || immutable_unaccent(LOWER(:pattern)) || '%'", nativeQuery = true)
+    long countSearchNotDeleted(@Param("pattern") String pattern);
+
+    @Query("SELECT u.id FROM User u WHERE u.isDeleted = FALSE AND u.id > :after ORDER BY u.id ASC")
+    List<Long> findNotDeletedIdsAfter(@Param("after") long after, Pageable pageable);
+
+    // Mesmo predicado de searchNotDeletedIds, mas em ordem de id para o cursor
+    @Query(value = "SELECT u.id FROM users u WHERE u.is_deleted = FALSE AND u.id > :after AND user_search_text(u.name, u.email) LIKE '%' || immutable_unaccent(LOWER(:pattern)) || '%' ORDER BY u.id ASC", nativeQuery = true)
+    List<Long> searchNotDeletedIdsAfter(@Param("pattern") String pattern, @Param("after") long after, Pageable pageable);
+
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.cards WHERE u.id IN :ids ORDER BY u.id ASC")
+    List<User> findAllWithCardsByIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT u FROM User u WHERE u.isDeleted = FALSE AND u.id = :id")
     Optional<User> findNotDeletedById(@Param("id") Long id);
 
+    // Um array por pedaço do BulkIdChunker, como as remoções em massa abaixo
+    @Query(value = "SELECT * FROM users WHERE id = ANY(:ids) AND is_deleted = FALSE", nativeQuery = true)
+    List<User> findAllNotDeletedByIds(@Param("ids") Long[] ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE users SET is_deleted = TRUE WHERE id = ANY(:ids) AND is_deleted = FALSE", nativeQuery = true)
+    int softDeleteAllByIds(@Param("ids") Long[] ids);
+
+    @Transactional
     @Modifying(clearAutomatically = true)
-    @Query(value = "UPDATE users SET is_deleted = TRUE WHERE id IN :ids", nativeQuery = true)
-    void softDeleteAllByIds(@Param("ids") Set<Long> ids);
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
 }
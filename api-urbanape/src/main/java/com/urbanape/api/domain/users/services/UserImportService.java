@@ -0,0 +1,294 @@
+package com.urbanape.api.domain.users.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanape.api.domain.auth.dtos.RegisterRequestDTO;
+import com.urbanape.api.domain.cards.components.CardNumberAllocator;
+import com.urbanape.api.domain.cards.dtos.NewCardRequestDTO;
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.users.dtos.UserImportErrorDTO;
+import com.urbanape.api.domain.users.dtos.UserImportReportDTO;
+import com.urbanape.api.domain.users.dtos.UserImportRowDTO;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.infra.csv.CsvReader;
+import com.urbanape.api.infra.exceptions.CsvFormatException;
+import com.urbanape.api.infra.pagination.TotalCountCache;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/*
+ * Importação em massa de usuários (e opcionalmente um cartão por usuário) a partir de um CSV com
+ * cabeçalho name,email,password,role[,cardTitle,cardType]. O arquivo é lido em lotes de batch-size
+ * linhas: e-mails repetidos são descartados antes do hash, as senhas são codificadas em paralelo e
+ * cada lote é gravado por COPY na sua própria transação. Uma linha inválida ou um lote com erro
+ * entra no relatório sem interromper o restante do arquivo.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "email", "password", "role");
+
+    private final UserRepository userRepository;
+
+    private final CardNumberAllocator cardNumberAllocator;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final TotalCountCache totalCountCache;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final ExecutorService hashExecutor;
+
+    public UserImportService(
+        UserRepository userRepository,
+        CardNumberAllocator cardNumberAllocator,
+        PasswordEncoder passwordEncoder,
+        TotalCountCache totalCountCache,
+        Validator validator,
+        PlatformTransactionManager transactionManager,
+        @Value("${api.import.batch-size:1000}") int batchSize,
+        @Value("${api.import.hash-threads:0}") int hashThreads
+    ) {
+        if (batchSize < 1) throw new IllegalArgumentException("Import batch size must be positive");
+
+        this.userRepository = userRepository;
+        this.cardNumberAllocator = cardNumberAllocator;
+        this.passwordEncoder = passwordEncoder;
+        this.totalCountCache = totalCountCache;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.hashExecutor = Executors.newFixedThreadPool(
+            hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(),
+            new CustomizableThreadFactory("import-hash-")
+        );
+    }
+
+    public UserImportReportDTO importCsv(InputStream input) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = readHeader(reader);
+        Report report = new Report();
+        List<UserImportRowDTO> batch = new ArrayList<>(batchSize);
+
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (isBlank(record)) continue;
+
+            report.rows++;
+            UserImportRowDTO row = parse(reader.line(), record, columns, report);
+            if (row == null) continue;
+
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                save(batch, report);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) save(batch, report);
+
+        return new UserImportReportDTO(report.rows, report.usersCreated, report.cardsCreated, report.failed, report.errors);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) throw new CsvFormatException("Empty file");
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Remove o BOM que planilhas costumam gravar no início do arquivo
+            String name = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i);
+            columns.put(name.trim(), i);
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) throw new CsvFormatException("Missing column: " + column);
+        }
+
+        return columns;
+    }
+
+    // Aplica as mesmas validações do cadastro (RegisterRequestDTO) e da criação de cartão (NewCardRequestDTO)
+    private UserImportRowDTO parse(long line, List<String> record, Map<String, Integer> columns, Report report) {
+        String name = field(record, columns, "name");
+        String email = field(record, columns, "email");
+        String password = field(record, columns, "password");
+        String cardTitle = field(record, columns, "cardTitle");
+        String cardTypeName = field(record, columns, "cardType");
+
+        UserRole role = parseEnum(UserRole.class, field(record, columns, "role"));
+        String error = firstViolation(new RegisterRequestDTO(name, email, password, role));
+
+        CardType cardType = null;
+        if (error == null && cardTitle != null) {
+            cardType = cardTypeName == null ? CardType.COMUM : parseEnum(CardType.class, cardTypeName);
+            // O usuário ainda não existe; o id é só para satisfazer a validação
+            error = firstViolation(new NewCardRequestDTO(0L, cardTitle, cardType));
+        }
+
+        if (error != null) {
+            report.fail(line, email, error);
+            return null;
+        }
+
+        return new UserImportRowDTO(line, name, email, password, role, cardTitle, cardType);
+    }
+
+    private void save(List<UserImportRowDTO> batch, Report report) {
+        // E-mails repetidos no lote ou já cadastrados são descartados antes do hash, que é a parte cara
+        Set<String> existing = userRepository.findExistingEmails(batch.stream().map(UserImportRowDTO::email).toList());
+        Set<String> seen = new HashSet<>();
+        List<UserImportRowDTO> accepted = new ArrayList<>(batch.size());
+
+        for (UserImportRowDTO row : batch) {
+            if (existing.contains(row.email())) {
+                report.fail(row.line(), row.email(), "User already registered");
+            } else if (!seen.add(row.email())) {
+                report.fail(row.line(), row.email(), "Duplicate email in file");
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (accepted.isEmpty()) return;
+
+        List<UserImportRowDTO> hashed = hash(accepted);
+
+        try {
+            // Falhas e contagens só entram no relatório depois do commit; se o lote for desfeito, todas as linhas falham
+            Batch saved = transactionTemplate.execute(status -> copy(hashed));
+
+            report.usersCreated += saved.users;
+            report.cardsCreated += saved.cards;
+            saved.conflicts.forEach(row -> report.fail(row.line(), row.email(), "User already registered"));
+        } catch (RuntimeException exception) {
+            logger.warn("Erro ao gravar lote da importacao de usuarios (linhas {} a {})",
+                batch.get(0).line(), batch.get(batch.size() - 1).line(), exception);
+            hashed.forEach(row -> report.fail(row.line(), row.email(), "Could not save batch"));
+        }
+    }
+
+    private Batch copy(List<UserImportRowDTO> rows) {
+        Map<String, Long> ids = userRepository.copyUsers(rows);
+        List<UserImportRowDTO> conflicts = new ArrayList<>();
+        List<Card> cards = new ArrayList<>();
+
+        for (UserImportRowDTO row : rows) {
+            Long id = ids.get(row.email());
+            if (id == null) {
+                conflicts.add(row);
+            } else if (row.hasCard()) {
+                User user = new User(id, row.name(), row.email(), row.password(), row.role());
+                cards.add(new Card(null, row.cardTitle(), true, row.cardType(), user));
+            }
+        }
+
+        long[] sequences = cardNumberAllocator.allocate(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setNumber(CardService.generateCardNumber(sequences[i]));
+        }
+
+        int created = userRepository.copyCards(cards);
+
+        totalCountCache.invalidate(UserService.COUNT_KEY);
+        totalCountCache.invalidate(CardService.COUNT_KEY);
+
+        return new Batch(ids.size(), created, conflicts);
+    }
+
+    private List<UserImportRowDTO> hash(List<UserImportRowDTO> rows) {
+        List<CompletableFuture<UserImportRowDTO>> futures = rows.stream()
+            .map(row -> CompletableFuture.supplyAsync(() -> row.withPassword(passwordEncoder.encode(row.password())), hashExecutor))
+            .toList();
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String firstViolation(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) return null;
+
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) return null;
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private record Batch(int users, int cards, List<UserImportRowDTO> conflicts) {}
+
+    private static final class Report {
+
+        private long rows;
+
+        private long usersCreated;
+
+        private long cardsCreated;
+
+        private long failed;
+
+        private final List<UserImportErrorDTO> errors = new ArrayList<>();
+
+        private void fail(long line, String email, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new UserImportErrorDTO(line, email, error));
+        }
+    }
+}
@@ -1,23 +1,38 @@
 package com.urbanape.api.domain.users.services;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.auth.components.PrincipalCache;
+import com.urbanape.api.domain.auth.components.TokenRevocationRegistry;
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.dtos.UpdateUserRequestDTO;
 import com.urbanape.api.domain.users.dtos.UserResponseDTO;
 import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.events.UsersDeletedEvent;
 import com.urbanape.api.domain.users.repositories.UserRepository;
-
-import jakarta.transaction.Transactional;
+import com.urbanape.api.infra.bulk.BulkIdChunker;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
+import com.urbanape.api.infra.pagination.CursorCodec;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 @Service
 public class UserService {
@@ -25,18 +40,101 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired @Lazy
-    private CardService cardService;
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private TotalCountCache totalCountCache;
+
+    @Autowired
+    private UserVersionRegistry userVersionRegistry;
+
+    @Autowired
+    private BulkIdChunker bulkIdChunker;
 
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    public static final String COUNT_KEY = "users";
+
+    @Transactional(readOnly = true)
     public UserResponseDTO findById(Long id) {
         Optional<User> user = userRepository.findNotDeletedById(id);
         if (user.isEmpty()) return null;
-        return mapUserToResponseDTO(user.get());
+        return mapUserToResponseDTO(user.get(), cardRepository.findNumbersByUserId(id));
     }
 
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> findAll(String search, Pageable pageable) {
-        Page<User> usersPage = userRepository.findAllNotDeleted(search, pageable);
-        return usersPage.map(this::mapUserToResponseDTO);
+        Slice<UserResponseDTO> users = findAllSlice(search, pageable);
+
+        return PageableExecutionUtils.getPage(users.getContent(), users.getPageable(),
+            () -> totalCountCache.get(COUNT_KEY + ":" + search.toLowerCase(), () -> count(search))
+        );
+    }
+
+    // Página de ids seguida de uma única consulta dos usuários com seus cartões
+    @Transactional(readOnly = true)
+    public Slice<UserResponseDTO> findAllSlice(String search, Pageable pageable) {
+        if (!search.isBlank()) return search(search, pageable);
+
+        Slice<Long> ids = userRepository.findNotDeletedIds(pageable);
+
+        return new SliceImpl<>(findAllWithCardsInOrder(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    private long count(String search) {
+        if (!search.isBlank()) return userRepository.countSearchNotDeleted(escapeLike(search));
+
+        return userRepository.countNotDeleted();
+    }
+
+    // Busca por trigramas ordenada por relevância, por isso a ordenação do Pageable é ignorada
+    private Slice<UserResponseDTO> search(String search, Pageable pageable) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Slice<Long> ids = userRepository.searchNotDeletedIds(escapeLike(search), search, unsorted);
+
+        return new SliceImpl<>(findAllWithCardsInOrder(ids.getContent()), unsorted, ids.hasNext());
+    }
+
+    private List<UserResponseDTO> findAllWithCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, User> users = userRepository.findAllWithCardsByIds(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return ids.stream().map(users::get).filter(Objects::nonNull).map(this::mapUserToResponseDTO).toList();
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // Busca os ids por chave e só então os cartões, para não paginar em memória o JOIN FETCH
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserResponseDTO> findAllAfter(String search, String cursor, int size) {
+        int limit = CursorPageDTO.limit(size);
+        long after = CursorCodec.decode(cursor);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<Long> rows = search.isBlank()
+            ? userRepository.findNotDeletedIdsAfter(after, page)
+            : userRepository.searchNotDeletedIdsAfter(escapeLike(search), after, page);
+        CursorPageDTO<Long> ids = CursorPageDTO.of(rows, limit, id -> id, id -> id);
+
+        List<UserResponseDTO> users = ids.content().isEmpty()
+            ? List.of()
+            : userRepository.findAllWithCardsByIds(ids.content()).stream().map(this::mapUserToResponseDTO).toList();
+
+        return new CursorPageDTO<>(users, limit, ids.hasNext(), ids.nextCursor());
     }
 
     @Transactional
@@ -57,33 +155,61 @@ public class UserService {
             userEntity.setRole(updateUserRequestDTO.role());
         }
 
+        userEntity.setTokenVersion(userEntity.getTokenVersion() + 1);
         userRepository.save(userEntity);
 
-        return mapUserToResponseDTO(userEntity);
+        principalCache.invalidateByUserIds(Set.of(id));
+        tokenRevocationRegistry.revokeUsers(Set.of(id));
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(Set.of(id));
+
+        return mapUserToResponseDTO(userEntity, cardRepository.findNumbersByUserId(id));
     }
 
+    // Chamado pelo JobWorker em lotes; os cartões são removidos por quem escuta UsersDeletedEvent, na mesma transação
     @Transactional
-    public void delete(Set<Long> ids) {
-        userRepository.softDeleteAllByIds(ids);
-        cardService.deleteAllByUserIds(ids);
+    public int delete(Set<Long> ids) {
+        int deleted = bulkIdChunker.update(ids, userRepository::softDeleteAllByIds);
+        secondLevelCacheEvictor.evict(User.class);
+        eventPublisher.publishEvent(new UsersDeletedEvent(ids));
+        principalCache.invalidateByUserIds(ids);
+        tokenRevocationRegistry.revokeUsers(ids);
+        totalCountCache.invalidate(COUNT_KEY);
+        userVersionRegistry.bump(ids);
+
+        return deleted;
     }
 
+    // O JOIN FETCH traz também os cartões removidos; a resposta só lista os ativos, como findNumbersByUserId
     private UserResponseDTO mapUserToResponseDTO(User user) {
-        return new UserResponseDTO(
-            user.getId(),
-            user.getName(),
-            user.getEmail(),
-            user.getRole(),
+        return mapUserToResponseDTO(
+            user,
             user.getCards() != null 
                 ? user.getCards().stream()
+                    .filter(card -> !card.getIsDeleted())
                     .map(card -> card.getNumber())
                     .collect(Collectors.toList())
                 : List.of()
         );
     }
 
+    private UserResponseDTO mapUserToResponseDTO(User user, List<Long> cardNumbers) {
+        return new UserResponseDTO(
+            user.getId(),
+            user.getName(),
+            user.getEmail(),
+            user.getRole(),
+            cardNumbers
+        );
+    }
+
     public User findEntityById(Long id) {
         return userRepository.findNotDeletedById(id).orElse(null);
     }
 
+    public Map<Long, User> findEntitiesByIds(Set<Long> ids) {
+        return bulkIdChunker.query(ids, userRepository::findAllNotDeletedByIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
 }
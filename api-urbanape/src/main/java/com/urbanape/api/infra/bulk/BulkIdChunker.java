@@ -0,0 +1,54 @@
+package com.urbanape.api.infra.bulk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Divide conjuntos de ids em arrays de até chunk-size elementos para consultas "= ANY(:ids)": o SQL é sempre
+// o mesmo (um único parâmetro), independente da quantidade, e nenhum comando fica grande demais.
+// Os pedaços rodam um após o outro na transação de quem chama, em ordem crescente de id, para que
+// operações concorrentes bloqueiem as linhas sempre na mesma ordem.
+@Component
+public class BulkIdChunker {
+
+    private final int chunkSize;
+
+    public BulkIdChunker(@Value("${api.bulk.chunk-size:10000}") int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Bulk chunk size must be positive");
+
+        this.chunkSize = chunkSize;
+    }
+
+    // Soma das linhas afetadas em todos os pedaços
+    public int update(Collection<Long> ids, ToIntFunction<Long[]> update) {
+        int affected = 0;
+        for (Long[] chunk : chunks(ids)) {
+            affected += update.applyAsInt(chunk);
+        }
+        return affected;
+    }
+
+    public <T> List<T> query(Collection<Long> ids, Function<Long[], List<T>> query) {
+        List<T> results = new ArrayList<>();
+        for (Long[] chunk : chunks(ids)) {
+            results.addAll(query.apply(chunk));
+        }
+        return results;
+    }
+
+    private List<Long[]> chunks(Collection<Long> ids) {
+        Long[] sorted = ids.stream().distinct().sorted().toArray(Long[]::new);
+        List<Long[]> chunks = new ArrayList<>();
+
+        for (int from = 0; from < sorted.length; from += chunkSize) {
+            chunks.add(Arrays.copyOfRange(sorted, from, Math.min(sorted.length, from + chunkSize)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,38 @@
+package com.urbanape.api.infra.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+// Cache.get do Caffeine executa o loader dentro do compute do ConcurrentHashMap (um bloco synchronized):
+// uma consulta ao banco ali prende a thread virtual à carregadora. Aqui o compute só publica uma future vazia
+// e o loader roda depois, na própria thread que chamou. Quem chegar antes de terminar espera a mesma future,
+// então continua havendo uma única carga por chave. Valor nulo ou exceção removem a entrada.
+public final class CallerRunsLoader {
+
+    private CallerRunsLoader() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException exception) {
+                created.completeExceptionally(exception);
+                throw exception;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+    }
+}
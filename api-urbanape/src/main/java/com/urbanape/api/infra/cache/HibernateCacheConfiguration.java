@@ -0,0 +1,54 @@
+package com.urbanape.api.infra.cache;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.users.entities.User;
+
+// Regiões do cache de segundo nível criadas aqui, com tamanho e TTL vindos do application.properties.
+// O cache é local a cada instância: escritas feitas por outra instância só aparecem depois do TTL.
+@Configuration
+public class HibernateCacheConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+        @Value("${api.hibernate.cache.max-size:10000}") long maxSize,
+        @Value("${api.hibernate.cache.ttl:10m}") Duration ttl
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createRegion(cacheManager, User.CACHE_REGION, maxSize, ttl);
+        createRegion(cacheManager, Card.CACHE_REGION, maxSize, ttl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, maxSize, ttl);
+
+        // Os timestamps não podem expirar antes dos resultados que validam; são poucas entradas (uma por tabela)
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, null);
+
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, Long maxSize, Duration ttl) {
+        // O CacheManager padrão é compartilhado na JVM (vários contextos nos testes)
+        if (cacheManager.getCache(name) != null) return;
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize != null) configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(name, configuration);
+    }
+}
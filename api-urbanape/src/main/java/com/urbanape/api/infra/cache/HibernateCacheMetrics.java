@@ -0,0 +1,60 @@
+package com.urbanape.api.infra.cache;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.users.entities.User;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+// Acertos, falhas e inserções do cache de segundo nível e do cache de consultas (/actuator/metrics/hibernate.cache.*).
+// Depende de hibernate.generate_statistics=true.
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final List<String> REGIONS = List.of(User.CACHE_REGION, Card.CACHE_REGION);
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            regionCounter(registry, "hibernate.cache.requests", region, "hit", CacheRegionStatistics::getHitCount);
+            regionCounter(registry, "hibernate.cache.requests", region, "miss", CacheRegionStatistics::getMissCount);
+            regionCounter(registry, "hibernate.cache.puts", region, null, CacheRegionStatistics::getPutCount);
+        }
+
+        FunctionCounter.builder("hibernate.cache.query.requests", statistics, Statistics::getQueryCacheHitCount)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("hibernate.cache.query.requests", statistics, Statistics::getQueryCacheMissCount)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("hibernate.cache.query.puts", statistics, Statistics::getQueryCachePutCount)
+            .register(registry);
+    }
+
+    private void regionCounter(MeterRegistry registry, String name, String region, String result, ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+            CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        }).tag("region", region);
+
+        if (result != null) builder.tag("result", result);
+
+        builder.register(registry);
+    }
+}
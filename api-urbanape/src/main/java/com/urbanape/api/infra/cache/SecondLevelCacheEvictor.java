@@ -0,0 +1,37 @@
+package com.urbanape.api.infra.cache;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.urbanape.api.infra.transaction.AfterCommit;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Escritas feitas por JDBC não passam pelo Hibernate e não invalidam o cache de segundo nível.
+// Quem escreve assim remove a entidade e as consultas cacheadas depois do commit.
+@Component
+public class SecondLevelCacheEvictor {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCommit(Class<?> entity) {
+        AfterCommit.run(() -> evictNow(entity));
+    }
+
+    // UPDATE nativo em massa: o Hibernate só limpa a região ao fim da transação, e até lá a própria transação
+    // leria a versão antiga do cache. Remove já e de novo após o commit (descarta o que outras transações
+    // recarregaram do banco antes dele).
+    public void evict(Class<?> entity) {
+        evictNow(entity);
+        AfterCommit.run(() -> evictNow(entity));
+    }
+
+    private void evictNow(Class<?> entity) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entity);
+        cache.evictQueryRegions();
+    }
+}
@@ -1,8 +1,11 @@
 package com.urbanape.api.infra.configuration;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +15,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -55,6 +60,7 @@ public class SecurityConfiguration {
 		configuration.setAllowedOrigins(Arrays.asList("*"));
 		configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 		configuration.setAllowedHeaders(Arrays.asList("*"));
+		configuration.setExposedHeaders(Arrays.asList("ETag"));
 		configuration.setAllowCredentials(false);
 		
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -67,8 +73,22 @@ public class SecurityConfiguration {
 		return authenticationConfiguration.getAuthenticationManager();
 	}
 
+	// Hashes são gravados com o prefixo {id} do algoritmo configurado. Hashes antigos sem prefixo
+	// continuam sendo validados como BCrypt e são atualizados no próximo login (ver LoginService).
 	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	PasswordEncoder passwordEncoder(
+		@Value("${api.security.password.encoder:bcrypt}") String encoderId,
+		@Value("${api.security.password.bcrypt-strength:10}") int bcryptStrength,
+		@Value("${api.security.password.pbkdf2-iterations:310000}") int pbkdf2Iterations
+	) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put("bcrypt", bcrypt);
+		encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+		passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return passwordEncoder;
 	}
 }
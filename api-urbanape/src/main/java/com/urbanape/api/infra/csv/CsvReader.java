@@ -0,0 +1,96 @@
+package com.urbanape.api.infra.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.urbanape.api.infra.exceptions.CsvFormatException;
+
+// Leitor de CSV (RFC 4180) registro a registro: aspas duplas delimitam campos com vírgula, aspas ou quebra de linha.
+// Só o registro atual fica em memória, então arquivos de qualquer tamanho são lidos com memória constante.
+public class CsvReader {
+
+    private static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[8192];
+
+    private int position;
+
+    private int limit;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Linha do arquivo em que começa o último registro lido
+    public long line() {
+        return recordLine;
+    }
+
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new CsvFormatException("Unterminated quoted field starting at line " + recordLine);
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n' && following != -1) position--;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+
+            if (field.length() > MAX_FIELD_LENGTH) throw new CsvFormatException("Field too long at line " + recordLine);
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+
+        char c = buffer[position++];
+        if (c == '\n') line++;
+        return c;
+    }
+}
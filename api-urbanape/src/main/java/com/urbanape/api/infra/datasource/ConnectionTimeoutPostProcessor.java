@@ -0,0 +1,37 @@
+package com.urbanape.api.infra.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Espera máxima por uma conexão do pool (primário e réplicas). Sem DB_POOL_TIMEOUT: no pool de threads do Tomcat
+// fica o padrão do Hikari (30s), pois o número de threads já limita a fila; com threads virtuais o pool é o único
+// limite de concorrência e uma espera longa só acumula requisições, então o padrão cai para 3s e o excedente recebe 503.
+@Component
+public class ConnectionTimeoutPostProcessor implements BeanPostProcessor {
+
+    static final long PLATFORM_THREADS_TIMEOUT = 30_000;
+
+    static final long VIRTUAL_THREADS_TIMEOUT = 3_000;
+
+    private final long connectionTimeout;
+
+    public ConnectionTimeoutPostProcessor(
+        @Value("${api.datasource.pool-timeout:}") Long configured,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (configured != null) {
+            this.connectionTimeout = configured;
+        } else {
+            this.connectionTimeout = virtualThreads ? VIRTUAL_THREADS_TIMEOUT : PLATFORM_THREADS_TIMEOUT;
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) dataSource.setConnectionTimeout(connectionTimeout);
+        return bean;
+    }
+}
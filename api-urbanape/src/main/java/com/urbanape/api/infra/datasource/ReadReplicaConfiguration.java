@@ -0,0 +1,99 @@
+package com.urbanape.api.infra.datasource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Ativada quando DB_REPLICA_URLS tem ao menos uma URL. O DataSource da aplicação passa a ser um proxy que só
+// abre a conexão física no primeiro comando: como o @Transactional(readOnly = true) chama setReadOnly(true)
+// antes disso, a conexão vem das réplicas; nas demais transações vem do primário.
+@Configuration
+@ConditionalOnExpression("!'${api.datasource.replica.urls:}'.isBlank()")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    HikariDataSource primaryDataSource(
+        @Value("${spring.datasource.url}") String url,
+        @Value("${spring.datasource.username}") String username,
+        @Value("${spring.datasource.password}") String password,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("primary");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        // O connection-timeout é definido pelo ConnectionTimeoutPostProcessor, como no pool criado pelo Spring Boot
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    ReadReplicaDataSource readReplicaDataSource(
+        HikariDataSource primaryDataSource,
+        @Value("${api.datasource.replica.urls}") List<String> urls,
+        @Value("${api.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${api.datasource.replica.password:${spring.datasource.password}}") String password,
+        @Value("${api.datasource.replica.pool-size:10}") int poolSize,
+        @Value("${api.datasource.replica.max-lag:5s}") Duration maxLag,
+        @Value("${api.datasource.replica.check-interval:5s}") Duration checkInterval,
+        MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (int index = 0; index < urls.size(); index++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + index);
+            config.setJdbcUrl(urls.get(index).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            config.setReadOnly(true);
+            // Réplica fora do ar não pode impedir a aplicação de subir: ela só fica fora do roteamento
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        return new ReadReplicaDataSource(primaryDataSource, replicas, maxLag, checkInterval, meterRegistry);
+    }
+
+    // Antes do afterPropertiesSet da fábrica: o JpaTransactionManager lê o dialeto dela
+    @Bean
+    static BeanPostProcessor replicaCacheModePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factory) factory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(readReplicaDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,173 @@
+package com.urbanape.api.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Conexões das transações somente leitura: distribui entre as réplicas saudáveis (round-robin)
+// e cai para o primário quando nenhuma está disponível ou quando a réplica escolhida recusa a conexão.
+// Uma réplica é saudável se a última verificação respondeu e o atraso de replicação não passou de maxLag.
+public class ReadReplicaDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    // Sem WAL pendente a réplica está em dia, mesmo que o primário esteja ocioso há tempo
+    static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final Duration maxLag;
+
+    private final Duration checkInterval;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter fallbacks;
+
+    private ScheduledExecutorService checker;
+
+    public ReadReplicaDataSource(
+        DataSource primary,
+        Map<String, DataSource> replicas,
+        Duration maxLag,
+        Duration checkInterval,
+        MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream().map(entry -> new Replica(entry.getKey(), entry.getValue())).toList();
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+            .description("Leituras enviadas ao primário por falta de réplica saudável")
+            .register(meterRegistry);
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                .description("Atraso de replicação medido na última verificação (segundos)")
+                .baseUnit("seconds")
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-check-"));
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = choose();
+            if (replica == null) break;
+
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException exception) {
+                replica.healthy = false;
+                logger.warn("Replica {} indisponivel, leitura segue para outra replica ou o primario", replica.name, exception);
+            }
+        }
+
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                replica.lagSeconds = lagSeconds(replica.dataSource);
+                boolean healthy = replica.lagSeconds <= maxLag.toMillis() / 1000.0;
+
+                if (healthy != replica.healthy) {
+                    logger.info("Replica {} {} (atraso {}s)", replica.name, healthy ? "ativa" : "fora do roteamento", replica.lagSeconds);
+                }
+                replica.healthy = healthy;
+            } catch (SQLException | RuntimeException exception) {
+                if (replica.healthy) logger.warn("Replica {} fora do roteamento", replica.name, exception);
+                replica.healthy = false;
+            }
+        }
+    }
+
+    private Replica choose() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+
+        for (int offset = 0; offset < size; offset++) {
+            Replica replica = replicas.get((start + offset) % size);
+            if (replica.healthy) return replica;
+        }
+        return null;
+    }
+
+    private static double lagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                result.next();
+                return result.getDouble(1);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (checker != null) checker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private volatile boolean healthy;
+
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.urbanape.api.infra.datasource;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+// Com réplicas, as transações somente leitura leem de um banco que pode estar até max-lag atrasado. Elas continuam
+// consultando o cache de segundo nível, mas não gravam nele (CacheMode.GET): uma linha antiga da réplica ficaria
+// no cache pelo TTL inteiro, depois de a evicção pós-commit já ter rodado. O cache só é preenchido pelo primário.
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) return transactionData;
+
+        // Com open-in-view a sessão segue viva depois da transação: o modo anterior é restaurado no fim
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        // O find() do EntityManager decide pela propriedade JPA, não pelo CacheMode da sessão
+        session.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReadOnlyTransactionData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previous());
+            readOnly.session().setProperty(STORE_MODE, readOnly.previous().getJpaStoreMode());
+            super.cleanupTransaction(readOnly.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previous) {}
+}
@@ -0,0 +1,34 @@
+package com.urbanape.api.infra.dtos;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.urbanape.api.infra.pagination.CursorCodec;
+
+public record CursorPageDTO<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public static int limit(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    // rows vem da consulta com limit + 1: a linha excedente só indica que existe próxima página
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int size, ToLongFunction<E> key, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return new CursorPageDTO<>(
+            page.stream().map(mapper).toList(),
+            size,
+            hasNext,
+            hasNext ? CursorCodec.encode(key.applyAsLong(page.get(page.size() - 1))) : null
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.urbanape.api.infra.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CsvFormatException extends RuntimeException {
+
+    public CsvFormatException(String message) {
+        super(message);
+    }
+
+    public CsvFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CsvFormatException(Throwable cause) {
+        super(cause);
+    }
+
+}
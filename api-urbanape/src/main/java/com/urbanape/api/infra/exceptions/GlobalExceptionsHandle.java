@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.urbanape.api.domain.auth.exceptions.LoginUnavailableException;
 import com.urbanape.api.domain.users.exceptions.UserNotFoundException;
 import com.urbanape.api.domain.users.exceptions.UserAlreadyExistExeption;
 
@@ -20,6 +21,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import java.sql.SQLException;
 
 import com.urbanape.api.infra.dtos.ResponseMessageDTO;
@@ -61,4 +63,29 @@ public class GlobalExceptionsHandle extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        return new ResponseEntity<>(new ResponseMessageDTO(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(CsvFormatException.class)
+    public ResponseEntity<Object> handleCsvFormatException(CsvFormatException ex, WebRequest request) {
+        return new ResponseEntity<>(new ResponseMessageDTO(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(LoginUnavailableException.class)
+    public ResponseEntity<Object> handleLoginUnavailableException(LoginUnavailableException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ResponseMessageDTO(ex.getMessage()));
+    }
+
+    // Sem conexão livre no pool dentro do connection-timeout: a requisição é recusada em vez de esperar indefinidamente
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Object> handleCannotCreateTransactionException(CannotCreateTransactionException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ResponseMessageDTO("Service busy, try again later"));
+    }
+
 }
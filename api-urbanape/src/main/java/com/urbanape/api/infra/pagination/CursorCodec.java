@@ -0,0 +1,36 @@
+package com.urbanape.api.infra.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.urbanape.api.infra.exceptions.InvalidCursorException;
+
+// Cursor opaco para paginação por chave: guarda o último valor da coluna ordenada (record/id)
+public final class CursorCodec {
+
+    private static final String VERSION = "v1:";
+
+    private CursorCodec() {}
+
+    public static String encode(long key) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((VERSION + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Sem cursor a listagem começa do início
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(VERSION)) throw new InvalidCursorException("Invalid cursor");
+
+            long key = Long.parseLong(decoded.substring(VERSION.length()));
+            if (key < 0) throw new InvalidCursorException("Invalid cursor");
+
+            return key;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.urbanape.api.infra.pagination;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.urbanape.api.infra.cache.CallerRunsLoader;
+import com.urbanape.api.infra.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Totais das listagens paginadas: o COUNT(*) custa mais que a própria página, então é reaproveitado
+// até o TTL expirar ou até uma escrita invalidar as chaves do domínio ("cards", "users")
+@Component
+public class TotalCountCache {
+
+    private final AsyncCache<String, Long> cache;
+
+    public TotalCountCache(
+        @Value("${api.pagination.count-cache.max-size:10000}") long maxSize,
+        @Value("${api.pagination.count-cache.ttl:30s}") Duration ttl,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "page-counts");
+    }
+
+    public long get(String key, LongSupplier counter) {
+        return CallerRunsLoader.get(cache, key, k -> counter.getAsLong());
+    }
+
+    public void invalidate(String prefix) {
+        AfterCommit.run(() -> cache.synchronous().asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+}
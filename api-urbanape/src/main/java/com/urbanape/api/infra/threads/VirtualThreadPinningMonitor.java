@@ -0,0 +1,77 @@
+package com.urbanape.api.infra.threads;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+// Com threads virtuais, um bloqueio dentro de synchronized (ou código nativo) prende a thread carregadora.
+// Os eventos jdk.VirtualThreadPinned do JFR viram a métrica jvm.threads.virtual.pinned e cada pilha distinta é logada uma vez.
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_FRAMES = 12;
+
+    private static final int MAX_LOGGED_STACKS = 100;
+
+    private final RecordingStream stream = new RecordingStream();
+
+    private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+
+    private final Timer pinnedTimer;
+
+    public VirtualThreadPinningMonitor(
+        @Value("${api.threads.pinned-threshold:20ms}") Duration threshold,
+        MeterRegistry meterRegistry
+    ) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Tempo em que uma thread virtual ficou presa à thread carregadora")
+            .register(meterRegistry);
+
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        if (event.getStackTrace() == null) return;
+
+        String stack = event.getStackTrace().getFrames().stream()
+            .limit(MAX_FRAMES)
+            .map(VirtualThreadPinningMonitor::format)
+            .collect(Collectors.joining("\n\tat "));
+
+        if (loggedStacks.size() < MAX_LOGGED_STACKS && loggedStacks.add(stack)) {
+            logger.warn("Thread virtual presa por {} ms\n\tat {}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stream.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.urbanape.api.infra.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Executa a ação só depois do commit da transação corrente (ou na hora, fora de uma transação). Usado para
+// invalidar caches: antes do commit uma requisição concorrente poderia recarregar o estado antigo.
+// Em rollback a ação é descartada.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
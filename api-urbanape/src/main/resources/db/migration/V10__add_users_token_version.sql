@@ -0,0 +1,4 @@
+-- Versão dos tokens do usuário, gravada no JWT (claim "ver"). Incrementada quando o usuário é alterado:
+-- tokens emitidos com a versão anterior deixam de valer no modo stateless, em todas as instâncias.
+-- Com DEFAULT constante o ADD COLUMN não reescreve a tabela.
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Cartões removidos pela tarefa. A remoção de usuários apaga os cartões em lotes de tamanho fixo, cada lote
+-- numa transação, antes de remover os usuários do lote; o progresso dos cartões fica registrado aqui.
+ALTER TABLE jobs ADD COLUMN cards_affected INTEGER NOT NULL DEFAULT 0;
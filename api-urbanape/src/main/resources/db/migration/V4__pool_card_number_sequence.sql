@@ -0,0 +1 @@
+ALTER SEQUENCE card_number_seq INCREMENT BY 50;
@@ -0,0 +1,15 @@
+-- Índices parciais para as consultas de cartões não removidos (is_deleted = FALSE).
+-- CONCURRENTLY não bloqueia escritas na tabela e não roda em transação (ver .sql.conf);
+-- o DROP antes de cada CREATE descarta um índice inválido deixado por uma execução interrompida.
+
+-- Listagem geral, paginação por cursor e contagem: ORDER BY record
+DROP INDEX CONCURRENTLY IF EXISTS cards_record_active_idx;
+CREATE INDEX CONCURRENTLY cards_record_active_idx ON cards (record) WHERE is_deleted = FALSE;
+
+-- Cartões de um usuário: user_id = ? ORDER BY record
+DROP INDEX CONCURRENTLY IF EXISTS cards_user_record_active_idx;
+CREATE INDEX CONCURRENTLY cards_user_record_active_idx ON cards (user_id, record) WHERE is_deleted = FALSE;
+
+-- Chave estrangeira: remoção em lote por usuário e verificação da FK ao alterar users
+DROP INDEX CONCURRENTLY IF EXISTS cards_user_id_idx;
+CREATE INDEX CONCURRENTLY cards_user_id_idx ON cards (user_id);
@@ -0,0 +1,3 @@
+-- Listagem de usuários não removidos: ORDER BY id (paginação e cursor)
+DROP INDEX CONCURRENTLY IF EXISTS users_id_active_idx;
+CREATE INDEX CONCURRENTLY users_id_active_idx ON users (id) WHERE is_deleted = FALSE;
@@ -0,0 +1,14 @@
+-- Busca de usuários por trigramas, sem diferenciar acentos ("Joao" encontra "João").
+-- pg_trgm e unaccent são extensões "trusted": o dono do banco pode criá-las.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE e não pode ser usada em índice; com o dicionário fixo o resultado é imutável
+CREATE OR REPLACE FUNCTION immutable_unaccent(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, value) $$;
+
+-- Texto pesquisável do usuário; a consulta usa a mesma expressão do índice
+CREATE OR REPLACE FUNCTION user_search_text(name text, email text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT immutable_unaccent(lower(name || ' ' || email)) $$;
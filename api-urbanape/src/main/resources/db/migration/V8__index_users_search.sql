@@ -0,0 +1,3 @@
+-- Índice GIN de trigramas para LIKE '%termo%' na busca de usuários não removidos
+DROP INDEX CONCURRENTLY IF EXISTS users_search_trgm_idx;
+CREATE INDEX CONCURRENTLY users_search_trgm_idx ON users USING gin (user_search_text(name, email) gin_trgm_ops) WHERE is_deleted = FALSE;
@@ -0,0 +1,18 @@
+-- Fila de tarefas em segundo plano (remoção de usuários em lotes). target_ids guarda os ids a processar;
+-- processed é quantos já foram processados, na ordem do array.
+CREATE TABLE jobs (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    target_ids BIGINT[] NOT NULL,
+    total INTEGER NOT NULL,
+    processed INTEGER NOT NULL DEFAULT 0,
+    affected INTEGER NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- O worker só procura tarefas ainda não concluídas, em ordem de chegada
+CREATE INDEX jobs_runnable_idx ON jobs (id) WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,278 @@
+package com.urbanape.api;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Confere no PostgreSQL real (H2 não tem índices parciais) que as consultas dos repositórios usam os índices
+// das migrações. O SQL e os parâmetros são os que o Hibernate enviou: o DataSource do teste roda um EXPLAIN
+// do mesmo comando, com os mesmos parâmetros, antes de executá-lo. As migrações rodam num schema descartável,
+// com carga analisada e o planner nas configurações padrão. Roda só com IT_DB_URL definido, por exemplo:
+// IT_DB_URL=jdbc:postgresql://localhost:5432/urbana_pe IT_DB_USERNAME=urbana_pe IT_DB_PASSWORD=... ./mvnw test -Dtest=QueryIndexPlanTest
+//
+// Os COUNT(*) de todos os registros ativos não entram: leem quase a tabela inteira e o seq scan é um plano válido.
+@EnabledIfEnvironmentVariable(named = "IT_DB_URL", matches = ".+")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@ActiveProfiles("test")
+@Transactional
+class QueryIndexPlanTest {
+
+    private static final String SCHEMA = "plans_" + ProcessHandle.current().pid();
+
+    private static final int USERS = 100_000;
+
+    private static final int CARDS = 500_000;
+
+    // Fora da faixa de card_number_seq, usada pelos cartões de exemplo criados na inicialização
+    private static final long NUMBER_BASE = 9_000_000_000_000_000L;
+
+    private static final long USER_ID = 4242;
+
+    private static final String SEARCH = "carga4242@";
+
+    private static final List<String> PLANS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @Test
+    void testCardRepository_findNotDeleted() {
+        assertUsesIndex(() -> cardRepository.findSliceNotDeleted(PageRequest.of(2, 20)), "cards_record_active_idx");
+        assertUsesIndex(() -> cardRepository.findNotDeletedAfter(1000L, PageRequest.of(0, 21)), "cards_record_active_idx");
+    }
+
+    @Test
+    void testCardRepository_findByUserId() {
+        assertUsesIndex(() -> cardRepository.findSliceByUserId(USER_ID, PageRequest.of(0, 20)), "cards_user_record_active_idx");
+        assertUsesIndex(() -> cardRepository.findByUserIdAfter(USER_ID, 0L, PageRequest.of(0, 21)), "cards_user_record_active_idx");
+        assertUsesIndex(() -> cardRepository.findNumbersByUserId(USER_ID), "cards_user_record_active_idx");
+        assertUsesIndex(() -> cardRepository.countNotDeletedByUserId(USER_ID), "cards_user_record_active_idx");
+    }
+
+    @Test
+    void testCardRepository_byNumber() {
+        long number = NUMBER_BASE + USER_ID;
+
+        assertUsesIndex(() -> cardRepository.findByIdAndUserId(number, USER_ID), "cards_pkey", "cards_number_key");
+        assertUsesIndex(() -> cardRepository.findUserIdsByNumbers(new Long[] { number, number + 1 }), "cards_pkey", "cards_number_key");
+        assertUsesIndex(() -> cardRepository.softDeleteAllByNumbers(new Long[] { number, number + 1 }), "cards_pkey", "cards_number_key");
+    }
+
+    @Test
+    void testCardRepository_softDeleteAllByUserIds() {
+        assertUsesIndex(() -> cardRepository.findNotDeletedNumbersByUserIds(new Long[] { USER_ID, USER_ID + 1 }, 5000), "cards_user_record_active_idx");
+        assertUsesIndex(() -> cardRepository.softDeleteAllByUserIds(new Long[] { USER_ID, USER_ID + 1 }), "cards_user_id_idx", "cards_user_record_active_idx");
+    }
+
+    @Test
+    void testUserRepository_findNotDeletedIds() {
+        assertUsesIndex(() -> userRepository.findNotDeletedIds(PageRequest.of(2, 20)), "users_id_active_idx");
+        assertUsesIndex(() -> userRepository.findNotDeletedIdsAfter(1000L, PageRequest.of(0, 21)), "users_id_active_idx");
+    }
+
+    @Test
+    void testUserRepository_search() {
+        assertUsesIndex(() -> userRepository.searchNotDeletedIds(SEARCH, SEARCH, PageRequest.of(0, 21)), "users_search_trgm_idx");
+        assertUsesIndex(() -> userRepository.countSearchNotDeleted(SEARCH), "users_search_trgm_idx");
+        assertUsesIndex(() -> userRepository.searchNotDeletedIdsAfter(SEARCH, 1000L, PageRequest.of(0, 21)), "users_search_trgm_idx");
+    }
+
+    @Test
+    void testUserRepository_byKey() {
+        assertUsesIndex(() -> userRepository.findNotDeletedById(USER_ID), "users_pkey", "users_id_active_idx");
+        assertUsesIndex(() -> userRepository.findByEmail("carga" + USER_ID + "@load.urbanape.com"), "users_email_key");
+        assertUsesIndex(() -> userRepository.findNotDeletedByEmail("carga" + USER_ID + "@load.urbanape.com"), "users_email_key");
+        assertUsesIndex(() -> userRepository.findAllNotDeletedByIds(new Long[] { USER_ID, USER_ID + 1 }), "users_pkey", "users_id_active_idx");
+        assertUsesIndex(() -> userRepository.softDeleteAllByIds(new Long[] { USER_ID, USER_ID + 1 }), "users_pkey", "users_id_active_idx");
+    }
+
+    // Plano do primeiro comando enviado pela chamada; o nome do índice tem de bater exatamente
+    private void assertUsesIndex(Runnable call, String... indexes) {
+        PLANS.clear();
+        call.run();
+
+        assertFalse(PLANS.isEmpty(), "No statement was executed");
+        String plan = PLANS.get(0);
+        boolean usesIndex = Arrays.stream(indexes).anyMatch(index -> scans(plan, index));
+
+        assertTrue(usesIndex, "Expected one of " + Arrays.toString(indexes) + " in:\n" + plan);
+    }
+
+    private static boolean scans(String plan, String index) {
+        String name = Pattern.quote(index);
+        return Pattern.compile("Index (Only )?Scan (Backward )?using " + name + " on |Bitmap Index Scan on " + name + "\\b").matcher(plan).find();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(System.getenv("IT_DB_URL"), System.getenv("IT_DB_USERNAME"), System.getenv("IT_DB_PASSWORD"));
+    }
+
+    @TestConfiguration
+    static class ExplainConfiguration {
+
+        @Bean
+        @Primary
+        DataSource dataSource() throws SQLException {
+            String url = System.getenv("IT_DB_URL");
+            migrate(url);
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("plans");
+            config.setJdbcUrl(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public");
+            config.setUsername(System.getenv("IT_DB_USERNAME"));
+            config.setPassword(System.getenv("IT_DB_PASSWORD"));
+            config.setMaximumPoolSize(4);
+            HikariDataSource pool = new HikariDataSource(config);
+
+            seed(pool);
+
+            return new DelegatingDataSource(pool) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return explaining(super.getConnection());
+                }
+            };
+        }
+
+        private static void migrate(String url) throws SQLException {
+            // Extensões ficam no public, como em produção; V7 referencia public.unaccent
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public");
+                statement.execute("CREATE EXTENSION IF NOT EXISTS unaccent SCHEMA public");
+            }
+
+            Flyway.configure()
+                .dataSource(url, System.getenv("IT_DB_USERNAME"), System.getenv("IT_DB_PASSWORD"))
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .load()
+                .migrate();
+        }
+
+        // Carga confirmada e analisada: sem estatísticas o planner estima tabelas vazias
+        private static void seed(DataSource dataSource) throws SQLException {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute(
+                    "INSERT INTO users (name, email, role, password, is_deleted) " +
+                    "SELECT (ARRAY['João', 'Maria', 'José', 'Ana', 'Conceição'])[1 + g % 5] || ' Carga ' || g, " +
+                    "'carga' || g || '@load.urbanape.com', 'USER', 'x', g % 10 = 0 " +
+                    "FROM generate_series(1, " + USERS + ") AS g"
+                );
+                statement.execute(
+                    "INSERT INTO cards (number, title, status, type, user_id, is_deleted) " +
+                    "SELECT " + NUMBER_BASE + " + g, 'Cartão ' || g, TRUE, 'COMUM', 1 + g % " + USERS + ", g % 10 = 0 " +
+                    "FROM generate_series(1, " + CARDS + ") AS g"
+                );
+                statement.execute("VACUUM ANALYZE users");
+                statement.execute("VACUUM ANALYZE cards");
+            }
+        }
+
+        private static Connection explaining(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (method.getName().equals("prepareStatement")) {
+                    return explaining(connection, (PreparedStatement) result, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        // Guarda os parâmetros ligados e, antes de executar, roda EXPLAIN do mesmo SQL com os mesmos parâmetros
+        private static PreparedStatement explaining(Connection connection, PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+
+            return proxy(PreparedStatement.class, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (name.startsWith("execute") && args == null) {
+                    PLANS.add(explain(connection, sql, bindings));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static String explain(Connection connection, String sql, List<Binding> bindings) throws Throwable {
+            StringBuilder plan = new StringBuilder();
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Binding binding : bindings) {
+                    invoke(explain, binding.method(), binding.args());
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+            }
+            return plan.toString();
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(QueryIndexPlanTest.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> handler.handle(method, args)));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private record Binding(Method method, Object[] args) {}
+
+        @FunctionalInterface
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.urbanape.api;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.urbanape.api.domain.users.dtos.UserResponseDTO;
+import com.urbanape.api.domain.users.services.UserService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Orçamento de latência da busca de usuários com 1 milhão de usuários no PostgreSQL.
+// A busca passa pelo UserService, que escapa o termo e chama UserRepository.searchNotDeletedIds: o SQL medido
+// é o que a listagem de admin envia. As migrações rodam num schema descartável, removido ao final; a carga é
+// confirmada e analisada antes das medições, para o planejador ver estatísticas reais e não uma tabela vazia.
+// O limite padrão é 100 ms por busca (IT_SEARCH_BUDGET_MS).
+@EnabledIfEnvironmentVariable(named = "IT_DB_URL", matches = ".+")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@ActiveProfiles("test")
+class UserSearchLatencyTest {
+
+    private static final int USERS = 1_000_000;
+
+    private static final String SCHEMA = "latency_" + ProcessHandle.current().pid();
+
+    private static long budgetMillis;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeAll
+    static void setup() {
+        budgetMillis = Long.parseLong(System.getenv().getOrDefault("IT_SEARCH_BUDGET_MS", "100"));
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @Test
+    void testSearch_selectiveTerm() {
+        assertWithinBudget("carga123456@");
+    }
+
+    @Test
+    void testSearch_accentInsensitiveName() {
+        assertWithinBudget("conceicao carga 99999");
+    }
+
+    @Test
+    void testSearch_likeWildcardIsLiteral() {
+        assertTrue(search("carga_23456@").getContent().isEmpty());
+    }
+
+    private void assertWithinBudget(String search) {
+        // Primeira execução aquece cache e plano; mede a segunda
+        search(search);
+
+        long start = System.nanoTime();
+        Slice<UserResponseDTO> found = search(search);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(found.getContent().isEmpty(), "No users found for " + search);
+        assertTrue(elapsedMillis <= budgetMillis, "Search for \"" + search + "\" took " + elapsedMillis + " ms (budget " + budgetMillis + " ms)");
+    }
+
+    private Slice<UserResponseDTO> search(String search) {
+        return userService.findAllSlice(search, PageRequest.of(0, 20));
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(System.getenv("IT_DB_URL"), System.getenv("IT_DB_USERNAME"), System.getenv("IT_DB_PASSWORD"));
+    }
+
+    @TestConfiguration
+    static class LatencyConfiguration {
+
+        @Bean
+        @Primary
+        DataSource dataSource() throws SQLException {
+            String url = System.getenv("IT_DB_URL");
+
+            // Extensões ficam no public, como em produção; V7 referencia public.unaccent
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public");
+                statement.execute("CREATE EXTENSION IF NOT EXISTS unaccent SCHEMA public");
+            }
+
+            Flyway.configure()
+                .dataSource(url, System.getenv("IT_DB_USERNAME"), System.getenv("IT_DB_PASSWORD"))
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("latency");
+            config.setJdbcUrl(url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public");
+            config.setUsername(System.getenv("IT_DB_USERNAME"));
+            config.setPassword(System.getenv("IT_DB_PASSWORD"));
+            config.setMaximumPoolSize(4);
+            HikariDataSource pool = new HikariDataSource(config);
+
+            try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute(
+                    "INSERT INTO users (name, email, role, password) " +
+                    "SELECT (ARRAY['João', 'Maria', 'José', 'Ana', 'Conceição'])[1 + g % 5] || ' Carga ' || g, " +
+                    "'carga' || g || '@load.urbanape.com', 'USER', 'x' " +
+                    "FROM generate_series(1, " + USERS + ") AS g"
+                );
+                statement.execute("ANALYZE users");
+            }
+
+            return pool;
+        }
+    }
+}
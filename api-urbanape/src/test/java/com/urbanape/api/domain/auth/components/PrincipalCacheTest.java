@@ -0,0 +1,78 @@
+package com.urbanape.api.domain.auth.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.domain.users.entities.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthenticatedUserDTO user;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), meterRegistry);
+        user = new AuthenticatedUserDTO(1L, "João", "joao@test.com", UserRole.USER);
+    }
+
+    @Test
+    void testGet_loadsOnlyOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        principalCache.get("joao@test.com", subject -> { loads.incrementAndGet(); return user; });
+        var result = principalCache.get("joao@test.com", subject -> { loads.incrementAndGet(); return user; });
+
+        assertSame(user, result);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_doesNotCacheMissingUser() {
+        AtomicInteger loads = new AtomicInteger();
+
+        principalCache.get("naoexiste@test.com", subject -> { loads.incrementAndGet(); return null; });
+        var result = principalCache.get("naoexiste@test.com", subject -> { loads.incrementAndGet(); return null; });
+
+        assertNull(result);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateByUserIds() {
+        AuthenticatedUserDTO maria = new AuthenticatedUserDTO(2L, "Maria", "maria@test.com", UserRole.USER);
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get("joao@test.com", subject -> { loads.incrementAndGet(); return user; });
+        principalCache.get("maria@test.com", subject -> { loads.incrementAndGet(); return maria; });
+
+        principalCache.invalidateByUserIds(Set.of(1L));
+        principalCache.get("joao@test.com", subject -> { loads.incrementAndGet(); return user; });
+        principalCache.get("maria@test.com", subject -> { loads.incrementAndGet(); return maria; });
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testMetrics() {
+        principalCache.get("joao@test.com", subject -> user);
+        principalCache.get("joao@test.com", subject -> user);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,72 @@
+package com.urbanape.api.domain.auth.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.JWT;
+
+class TokenKeyringTest {
+
+    private TokenKeyring tokenKeyring;
+
+    @BeforeEach
+    void setup() {
+        tokenKeyring = new TokenKeyring("YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI", "v1", "v0:OLDSECRETOLDSECRETOLDSECRET1234");
+    }
+
+    @Test
+    void testActiveKey() {
+        assertEquals("v1", tokenKeyring.activeKey().keyId());
+    }
+
+    @Test
+    void testVerifier_isReused() {
+        assertSame(tokenKeyring.verifier("v1"), tokenKeyring.verifier("v1"));
+    }
+
+    @Test
+    void testVerifier_previousSecret() {
+        assertNotNull(tokenKeyring.verifier("v0"));
+    }
+
+    @Test
+    void testVerifier_legacyTokenWithoutKeyId() {
+        assertSame(tokenKeyring.verifier("v1"), tokenKeyring.verifier(null));
+    }
+
+    @Test
+    void testVerifier_unknownKey() {
+        assertThrows(IllegalArgumentException.class, () -> tokenKeyring.verifier("v9"));
+    }
+
+    @Test
+    void testRotation_previousKeyStillVerifies() {
+        String token = sign(tokenKeyring.activeKey());
+
+        TokenKeyring rotated = new TokenKeyring("NEWSECRETNEWSECRETNEWSECRET12345", "v2", "v1:YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI");
+
+        assertEquals("v2", rotated.activeKey().keyId());
+        assertNotNull(rotated.verifier("v1").verify(token));
+    }
+
+    @Test
+    void testRotation_retiredKeyRemovedFromPreviousSecrets() {
+        TokenKeyring rotated = new TokenKeyring("NEWSECRETNEWSECRETNEWSECRET12345", "v2", "");
+
+        assertThrows(IllegalArgumentException.class, () -> rotated.verifier("v1"));
+    }
+
+    private String sign(TokenKeyring.SigningKey key) {
+        return JWT.create()
+            .withKeyId(key.keyId())
+            .withIssuer(TokenKeyring.ISSUER)
+            .withClaim("userId", 1L)
+            .withClaim("role", "USER")
+            .sign(key.algorithm());
+    }
+}
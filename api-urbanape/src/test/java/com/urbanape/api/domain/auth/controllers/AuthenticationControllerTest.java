@@ -2,6 +2,11 @@ package com.urbanape.api.domain.auth.controllers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,25 +19,25 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.urbanape.api.domain.auth.dtos.LoginRequestDTO;
 import com.urbanape.api.domain.auth.dtos.RegisterRequestDTO;
 import com.urbanape.api.domain.auth.dtos.TokenResponseDTO;
+import com.urbanape.api.domain.auth.services.LoginService;
 import com.urbanape.api.domain.auth.services.TokenService;
 import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.entities.UserRole;
 import com.urbanape.api.domain.users.repositories.UserRepository;
 import com.urbanape.api.infra.dtos.ResponseMessageDTO;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationControllerTest {
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private LoginService loginService;
 
     @Mock
     private UserRepository userRepository;
@@ -40,6 +45,12 @@ class AuthenticationControllerTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
     @InjectMocks
     private AuthenticationController controller;
 
@@ -53,18 +64,17 @@ class AuthenticationControllerTest {
     @Test
     void testLogin() {
         LoginRequestDTO request = new LoginRequestDTO("joao@test.com", "senha123");
-        Authentication auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
         
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-            .thenReturn(auth);
+        when(loginService.authenticate("joao@test.com", "senha123"))
+            .thenReturn(CompletableFuture.completedFuture(user));
         when(tokenService.generateToken(user)).thenReturn("token123");
 
-        ResponseEntity<TokenResponseDTO> response = controller.login(request);
+        ResponseEntity<TokenResponseDTO> response = controller.login(request).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("token123", response.getBody().token());
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verify(loginService).authenticate("joao@test.com", "senha123");
         verify(tokenService).generateToken(user);
     }
 
@@ -72,14 +82,12 @@ class AuthenticationControllerTest {
     void testLogin_invalidCredentials() {
         LoginRequestDTO request = new LoginRequestDTO("joao@test.com", "senhaErrada");
         
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-            .thenThrow(new BadCredentialsException("Invalid credentials"));
-
-        try {
-            controller.login(request);
-        } catch (BadCredentialsException e) {
-            assertEquals("Invalid credentials", e.getMessage());
-        }
+        when(loginService.authenticate("joao@test.com", "senhaErrada"))
+            .thenReturn(CompletableFuture.failedFuture(new BadCredentialsException("Invalid credentials")));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> controller.login(request).join());
+
+        assertEquals("Invalid credentials", exception.getCause().getMessage());
         
         verify(tokenService, never()).generateToken(any());
     }
@@ -91,6 +99,7 @@ class AuthenticationControllerTest {
         );
         
         when(userRepository.findByEmail("maria@test.com")).thenReturn(null);
+        when(passwordEncoder.encode("Senha123@")).thenReturn("{bcrypt}$2a$10$encrypted");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         ResponseEntity<ResponseMessageDTO> response = controller.register(request);
@@ -99,7 +108,8 @@ class AuthenticationControllerTest {
         assertNotNull(response.getBody());
         assertEquals("User registered successfully", response.getBody().message());
         verify(userRepository).findByEmail("maria@test.com");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(org.mockito.ArgumentMatchers.argThat(saved -> "{bcrypt}$2a$10$encrypted".equals(saved.getPassword())));
+        verify(totalCountCache).invalidate("users");
     }
 
     @Test
@@ -0,0 +1,112 @@
+package com.urbanape.api.domain.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.urbanape.api.domain.auth.exceptions.LoginUnavailableException;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LoginServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private PasswordUpgradeService passwordUpgradeService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginService loginService;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginService = new LoginService(authenticationManager, passwordUpgradeService, 1, 1, meterRegistry);
+        user = new User(1L, "João", "joao@test.com", "$2a$10$encrypted", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginService.shutdown();
+    }
+
+    @Test
+    void testAuthenticate() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+            .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        User result = loginService.authenticate("joao@test.com", "senha123").join();
+
+        assertEquals(1L, result.getId());
+        assertEquals(1, meterRegistry.get("auth.login.hash").timer().count());
+        verify(passwordUpgradeService, never()).upgrade(any(), any());
+    }
+
+    @Test
+    void testAuthenticate_upgradesOutdatedHash() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+            .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        when(passwordUpgradeService.needsUpgrade("$2a$10$encrypted")).thenReturn(true);
+
+        loginService.authenticate("joao@test.com", "senha123").join();
+
+        verify(passwordUpgradeService).upgrade(1L, "senha123");
+    }
+
+    @Test
+    void testAuthenticate_invalidCredentials() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+            .thenThrow(new BadCredentialsException("Invalid credentials"));
+
+        CompletableFuture<User> result = loginService.authenticate("joao@test.com", "senhaErrada");
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertEquals(BadCredentialsException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void testAuthenticate_rejectedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        });
+
+        CompletableFuture<User> running = loginService.authenticate("joao@test.com", "senha123");
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<User> queued = loginService.authenticate("joao@test.com", "senha123");
+
+        assertThrows(LoginUnavailableException.class, () -> loginService.authenticate("joao@test.com", "senha123"));
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+}
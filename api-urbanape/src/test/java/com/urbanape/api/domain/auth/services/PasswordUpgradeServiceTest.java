@@ -0,0 +1,57 @@
+package com.urbanape.api.domain.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordUpgradeServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordUpgradeService passwordUpgradeService;
+
+    @BeforeEach
+    void setup() {
+        passwordUpgradeService = new PasswordUpgradeService(userRepository, passwordEncoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordUpgradeService.shutdown();
+    }
+
+    @Test
+    void testNeedsUpgrade() {
+        when(passwordEncoder.upgradeEncoding("$2a$10$legacy")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("{bcrypt}$2a$12$current")).thenReturn(false);
+
+        assertTrue(passwordUpgradeService.needsUpgrade("$2a$10$legacy"));
+        assertFalse(passwordUpgradeService.needsUpgrade("{bcrypt}$2a$12$current"));
+    }
+
+    @Test
+    void testUpgrade() {
+        when(passwordEncoder.encode("senha123")).thenReturn("{bcrypt}$2a$12$rehashed");
+
+        passwordUpgradeService.upgrade(1L, "senha123");
+
+        verify(userRepository, timeout(1000)).updatePassword(1L, "{bcrypt}$2a$12$rehashed");
+    }
+}
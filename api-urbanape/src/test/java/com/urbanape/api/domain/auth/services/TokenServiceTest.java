@@ -4,7 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +17,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.util.Set;
+
+import com.urbanape.api.domain.auth.components.TokenKeyring;
+import com.urbanape.api.domain.auth.components.TokenRevocationRegistry;
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
 import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -22,11 +36,21 @@ class TokenServiceTest {
     @Autowired
     private TokenService tokenService;
 
+    private UserRepository userRepository;
+
+    private TokenRevocationRegistry statelessRegistry;
+
+    private TokenService statelessService;
+
     private User user;
 
     @BeforeEach
     void setup() {
         user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
+        userRepository = mock(UserRepository.class);
+        statelessRegistry = registry(userRepository);
+        statelessService = new TokenService(
+            new TokenKeyring("YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI", "v1", ""), statelessRegistry, 100, new SimpleMeterRegistry());
     }
 
     @Test
@@ -91,4 +115,88 @@ class TokenServiceTest {
 
         assertEquals("admin@test.com", email);
     }
+
+    @Test
+    void testDecodePrincipal() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(0);
+        String token = statelessService.generateToken(user);
+
+        AuthenticatedUserDTO principal = statelessService.decodePrincipal(token);
+
+        assertNotNull(principal);
+        assertEquals(1L, principal.id());
+        assertEquals("João", principal.name());
+        assertEquals("joao@test.com", principal.email());
+        assertEquals(UserRole.USER, principal.role());
+    }
+
+    @Test
+    void testDecodePrincipal_revokedAfterUpdate() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(1);
+        String oldToken = statelessService.generateToken(user);
+        user.setTokenVersion(1);
+        String newToken = statelessService.generateToken(user);
+
+        assertNull(statelessService.decodePrincipal(oldToken));
+        assertNotNull(statelessService.decodePrincipal(newToken));
+    }
+
+    @Test
+    void testDecodePrincipal_deletedUser() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(null);
+        String token = statelessService.generateToken(user);
+
+        assertNull(statelessService.decodePrincipal(token));
+    }
+
+    @Test
+    void testDecodePrincipal_versionCachedUntilRevoked() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(0, 1);
+        String token = statelessService.generateToken(user);
+
+        assertNotNull(statelessService.decodePrincipal(token));
+        assertNotNull(statelessService.decodePrincipal(token));
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+
+        statelessRegistry.revokeUsers(Set.of(1L));
+
+        assertNull(statelessService.decodePrincipal(token));
+        verify(userRepository, times(2)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void testDecodePrincipal_invalidToken() {
+        assertThrows(RuntimeException.class, () -> {
+            tokenService.decodePrincipal("token.invalido.aqui");
+        });
+    }
+
+    @Test
+    void testValidateToken_cachedAfterFirstVerification() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenService service = new TokenService(
+            new TokenKeyring("YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI", "v1", ""), registry(mock(UserRepository.class)), 100, meterRegistry);
+        String token = service.generateToken(user);
+
+        service.validateToken(token);
+        String email = service.validateToken(token);
+
+        assertEquals("joao@test.com", email);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testValidateToken_rejectedAfterKeyRetired() {
+        String token = new TokenService(
+            new TokenKeyring("YZNZTUVZSGOLMKDAYFXLASRGZQVVGPEI", "v1", ""), registry(mock(UserRepository.class)), 100, new SimpleMeterRegistry())
+            .generateToken(user);
+        TokenService restarted = new TokenService(
+            new TokenKeyring("NEWSECRETNEWSECRETNEWSECRET12345", "v2", ""), registry(mock(UserRepository.class)), 100, new SimpleMeterRegistry());
+
+        assertThrows(RuntimeException.class, () -> restarted.validateToken(token));
+    }
+
+    private static TokenRevocationRegistry registry(UserRepository userRepository) {
+        return new TokenRevocationRegistry(userRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
 }
@@ -0,0 +1,107 @@
+package com.urbanape.api.domain.cards.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.cards.services.CardService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CardNumberAllocatorTest {
+
+    @Autowired
+    private CardNumberAllocator cardNumberAllocator;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testAllocate_usesSequenceBlocks() {
+        long[] sequences = cardNumberAllocator.allocate(120);
+
+        assertEquals(120, sequences.length);
+        assertEquals(120, Arrays.stream(sequences).distinct().count());
+        assertEquals(sequences[0] + 49, sequences[49]);
+        assertEquals(sequences[50] + 69, sequences[119]);
+    }
+
+    @Test
+    void testAllocate_doesNotOverlapNextBlock() {
+        long[] sequences = cardNumberAllocator.allocate(10);
+        long next = cardRepository.nextCardNumber();
+
+        assertTrue(Arrays.stream(sequences).allMatch(sequence -> sequence < next));
+    }
+
+    @Test
+    void testNext_reusesBlockWithoutHittingSequence() {
+        long first = cardNumberAllocator.next();
+        long second = cardNumberAllocator.next();
+
+        assertTrue(second > first);
+        assertTrue(cardRepository.nextCardNumber() > second);
+    }
+
+    @Test
+    void testNext_noDuplicatesUnderConcurrency() throws Exception {
+        int threads = 16;
+        int perThread = 500;
+        Set<Long> cardNumbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean batch = t % 4 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        long sequence = batch && i % 50 == 0
+                            ? cardNumberAllocator.allocate(1)[0]
+                            : cardNumberAllocator.next();
+                        assertTrue(cardNumbers.add(CardService.generateCardNumber(sequence)), "Duplicated sequence " + sequence);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, cardNumbers.size());
+    }
+
+    @Test
+    void testVerifyIncrement_blockLargerThanIncrement() {
+        CardNumberAllocator allocator = new CardNumberAllocator(cardRepository, jdbcTemplate, 100);
+
+        assertThrows(IllegalStateException.class, allocator::verifyIncrement);
+    }
+}
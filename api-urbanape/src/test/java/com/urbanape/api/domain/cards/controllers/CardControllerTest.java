@@ -1,10 +1,17 @@
 package com.urbanape.api.domain.cards.controllers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,16 +23,33 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.domain.cards.dtos.CardBatchItemResultDTO;
+import com.urbanape.api.domain.cards.dtos.CardBatchResponseDTO;
 import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
 import com.urbanape.api.domain.cards.dtos.DeleteCardListRequestDTO;
+import com.urbanape.api.domain.cards.dtos.DeleteCardListResponseDTO;
+import com.urbanape.api.domain.cards.dtos.NewCardBatchRequestDTO;
 import com.urbanape.api.domain.cards.dtos.NewCardRequestDTO;
 import com.urbanape.api.domain.cards.dtos.UpdateCardRequestDTO;
 import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.services.CardExportService;
 import com.urbanape.api.domain.cards.services.CardService;
-import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
 import com.urbanape.api.domain.users.entities.UserRole;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,14 +58,21 @@ class CardControllerTest {
     @Mock
     private CardService cardService;
 
+    @Mock
+    private UserVersionRegistry userVersionRegistry;
+
+    @Mock
+    private CardExportService cardExportService;
+
     @InjectMocks
     private CardController controller;
 
-    private User user;
+    private AuthenticatedUserDTO user;
 
     @BeforeEach
     void setup() {
-        user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
+        user = new AuthenticatedUserDTO(1L, "João", "joao@test.com", UserRole.USER);
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofMinutes(30));
     }
 
     @Test
@@ -50,12 +81,30 @@ class CardControllerTest {
         CardResponseDTO card2 = new CardResponseDTO(7777123456789013L, "Cartão 2", false, CardType.ESTUDANTE);
         Page<CardResponseDTO> page = new PageImpl<>(List.of(card1, card2), PageRequest.of(0, 10), 2);
         
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
         org.mockito.Mockito.when(cardService.findAllByUserId(any(), any())).thenReturn(page);
 
-        ResponseEntity<Page<CardResponseDTO>> response = controller.getCardsMe(user, PageRequest.of(0, 10));
+        ResponseEntity<Page<CardResponseDTO>> response = controller.getCardsMe(user, PageRequest.of(0, 10), request());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(2, response.getBody().getTotalElements());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetCardsMe_notModified() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/cards/me");
+        servletRequest.addHeader("If-None-Match", "\"v1\"");
+
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
+
+        ResponseEntity<Page<CardResponseDTO>> response = controller.getCardsMe(
+            user, PageRequest.of(0, 10), new ServletWebRequest(servletRequest, new MockHttpServletResponse())
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        org.mockito.Mockito.verifyNoInteractions(cardService);
     }
 
     @Test
@@ -141,10 +190,165 @@ class CardControllerTest {
     void testDeleteCard() {
         DeleteCardListRequestDTO deleteDTO = new DeleteCardListRequestDTO(Set.of(7777123456789012L, 7777123456789013L));
         
-        org.mockito.Mockito.doNothing().when(cardService).deleteAll(any());
+        org.mockito.Mockito.when(cardService.deleteAll(any())).thenReturn(new DeleteCardListResponseDTO(2));
+
+        ResponseEntity<DeleteCardListResponseDTO> response = controller.deleteCard(deleteDTO);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().cards());
+    }
+
+    @Test
+    void testCreateCardBatch() {
+        NewCardBatchRequestDTO request = new NewCardBatchRequestDTO(List.of(
+            new NewCardRequestDTO(1L, "Cartão Escolar", CardType.ESTUDANTE)
+        ));
+        CardResponseDTO card = new CardResponseDTO(7777123456789012L, "Cartão Escolar", true, CardType.ESTUDANTE);
+        CardBatchResponseDTO batch = new CardBatchResponseDTO(1, 0, List.of(new CardBatchItemResultDTO(0, 1L, card, null)));
+
+        org.mockito.Mockito.when(cardService.createBatch(request)).thenReturn(batch);
+
+        ResponseEntity<CardBatchResponseDTO> response = controller.createCardBatch(request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, response.getBody().created());
+    }
+
+    @Test
+    void testGetCardsByCursor() {
+        CardResponseDTO card = new CardResponseDTO(7777123456789012L, "Cartão 1", true, CardType.COMUM);
+        CursorPageDTO<CardResponseDTO> page = new CursorPageDTO<>(List.of(card), 20, true, "djE6NDI");
+
+        org.mockito.Mockito.when(cardService.findAllAfter(null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<CardResponseDTO>> response = controller.getCardsByCursor(null, null, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("djE6NDI", response.getBody().nextCursor());
+    }
+
+    @Test
+    void testGetCardsMeByCursor() {
+        CursorPageDTO<CardResponseDTO> page = new CursorPageDTO<>(List.of(), 20, false, null);
+
+        org.mockito.Mockito.when(cardService.findAllByUserIdAfter(1L, "djE6NDI", 20)).thenReturn(page);
 
-        ResponseEntity<Object> response = controller.deleteCard(deleteDTO);
+        ResponseEntity<CursorPageDTO<CardResponseDTO>> response = controller.getCardsMeByCursor(user, "djE6NDI", 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(false, response.getBody().hasNext());
+    }
+
+    @Test
+    void testGetCardsSlice() {
+        CardResponseDTO card = new CardResponseDTO(7777123456789012L, "Cartão 1", true, CardType.COMUM);
+        Slice<CardResponseDTO> slice = new SliceImpl<>(List.of(card), PageRequest.of(0, 1), true);
+
+        org.mockito.Mockito.when(cardService.findAllSlice(any())).thenReturn(slice);
+
+        ResponseEntity<Slice<CardResponseDTO>> response = controller.getCardsSlice(null, PageRequest.of(0, 1));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(true, response.getBody().hasNext());
+    }
+
+    @Test
+    void testGetCardsMeSlice() {
+        Slice<CardResponseDTO> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
+        org.mockito.Mockito.when(cardService.findAllByUserIdSlice(eq(1L), any())).thenReturn(slice);
+
+        ResponseEntity<Slice<CardResponseDTO>> response = controller.getCardsMeSlice(user, PageRequest.of(0, 10), request());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(false, response.getBody().hasNext());
+    }
+
+    @Test
+    void testGetCardNumbersMe() {
+        Slice<Long> slice = new SliceImpl<>(List.of(7777123456789012L), PageRequest.of(0, 1), true);
+
+        org.mockito.Mockito.when(cardService.findNumbersByUserIdSlice(eq(1L), any())).thenReturn(slice);
+
+        ResponseEntity<Slice<Long>> response = controller.getCardNumbersMe(user, PageRequest.of(0, 1));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(7777123456789012L, response.getBody().getContent().get(0));
+        assertEquals(true, response.getBody().hasNext());
+    }
+
+    @Test
+    void testGetCardNumbers() {
+        Slice<Long> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+
+        org.mockito.Mockito.when(cardService.findNumbersByUserIdSlice(eq(2L), any())).thenReturn(slice);
+
+        ResponseEntity<Slice<Long>> response = controller.getCardNumbers(2L, PageRequest.of(0, 10));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getBody().getNumberOfElements());
+    }
+
+    @Test
+    void testExportCards_csv() throws Exception {
+        org.mockito.Mockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("number,title,status,type,userId\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(cardExportService).export(eq(CardExportService.Format.CSV), any());
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportCards("csv", null, asyncRequest());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("text/csv;charset=UTF-8", response.getHeaders().getContentType().toString());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("number,title,status,type,userId\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportCards_gzip() throws Exception {
+        org.mockito.Mockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"number\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(cardExportService).export(eq(CardExportService.Format.NDJSON), any());
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportCards("ndjson", "gzip, deflate, br", asyncRequest());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals("{\"number\":1}\n", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testExportCards_unknownFormat() {
+        ResponseEntity<StreamingResponseBody> response = controller.exportCards("xml", null, asyncRequest());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        org.mockito.Mockito.verifyNoInteractions(cardExportService);
+    }
+
+    @Test
+    void testExportCards_extendsAsyncTimeoutOfThisRequestOnly() {
+        ServletWebRequest request = asyncRequest();
+
+        controller.exportCards("csv", null, request);
+
+        org.mockito.Mockito.verify(WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()).setTimeout(Duration.ofMinutes(30).toMillis());
+    }
+
+    private ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/cards/me"), new MockHttpServletResponse());
+    }
 
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    // O RequestMappingHandlerAdapter cria o AsyncWebRequest antes de chamar o controller
+    private ServletWebRequest asyncRequest() {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/admin/cards/export"), new MockHttpServletResponse());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(org.mockito.Mockito.mock(AsyncWebRequest.class));
+        return request;
     }
 }
@@ -1,5 +1,7 @@
 package com.urbanape.api.domain.cards.repositories;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -7,22 +9,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.urbanape.api.domain.cards.dtos.CardExportRowDTO;
+import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
+import com.urbanape.api.domain.cards.dtos.CardRowDTO;
 import com.urbanape.api.domain.cards.entities.Card;
 import com.urbanape.api.domain.cards.entities.CardType;
 import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.entities.UserRole;
 import com.urbanape.api.domain.users.repositories.UserRepository;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
@@ -34,6 +42,9 @@ class CardRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User user1;
     private User user2;
     private Card card1;
@@ -61,100 +72,61 @@ class CardRepositoryTest {
         deletedCard = cardRepository.save(deletedCard);
     }
 
-    @Test
-    void testFindAllNotDeleted() {
-        Pageable pageable = PageRequest.of(0, 100);
-        
-        Page<Card> result = cardRepository.findAllNotDeleted(pageable);
-
-        assertTrue(result.getTotalElements() >= 3);
-        assertFalse(result.getContent().stream().anyMatch(c -> c.getIsDeleted()));
-        assertTrue(result.getContent().stream().anyMatch(c -> c.getNumber().equals(card1.getNumber())));
-        assertTrue(result.getContent().stream().anyMatch(c -> c.getNumber().equals(card2.getNumber())));
-        assertTrue(result.getContent().stream().anyMatch(c -> c.getNumber().equals(card3.getNumber())));
-    }
-
-    @Test
-    void testFindAllByUserId() {
-        Pageable pageable = PageRequest.of(0, 10);
-        
-        Page<Card> result = cardRepository.findAllByUserId(user1.getId(), pageable);
-
-        assertEquals(2, result.getTotalElements());
-        assertTrue(result.getContent().stream().allMatch(c -> c.getUser().getId().equals(user1.getId())));
-        assertFalse(result.getContent().stream().anyMatch(c -> c.getIsDeleted()));
-    }
-
-    @Test
-    void testFindAllByUserId_emptyResult() {
-        User user3 = new User("Pedro", "pedro@test.com", "senha123", UserRole.USER);
-        user3 = userRepository.save(user3);
-        
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Card> result = cardRepository.findAllByUserId(user3.getId(), pageable);
-
-        assertEquals(0, result.getTotalElements());
-    }
-
     @Test
     void testFindByIdAndUserId() {
-        Optional<Card> result = cardRepository.findByIdAndUserId(card1.getNumber(), user1.getId());
+        Optional<CardResponseDTO> result = cardRepository.findByIdAndUserId(card1.getNumber(), user1.getId());
 
         assertTrue(result.isPresent());
-        assertEquals(card1.getNumber(), result.get().getNumber());
-        assertEquals(user1.getId(), result.get().getUser().getId());
+        assertEquals(card1.getNumber(), result.get().number());
+        assertEquals("Cartão 1", result.get().title());
+        assertEquals(CardType.COMUM, result.get().type());
     }
 
     @Test
     void testFindByIdAndUserId_wrongUser() {
-        Optional<Card> result = cardRepository.findByIdAndUserId(card1.getNumber(), user2.getId());
+        Optional<CardResponseDTO> result = cardRepository.findByIdAndUserId(card1.getNumber(), user2.getId());
 
         assertFalse(result.isPresent());
     }
 
     @Test
     void testFindByIdAndUserId_deletedCard() {
-        Optional<Card> result = cardRepository.findByIdAndUserId(deletedCard.getNumber(), user1.getId());
+        Optional<CardResponseDTO> result = cardRepository.findByIdAndUserId(deletedCard.getNumber(), user1.getId());
 
         assertFalse(result.isPresent());
     }
 
     @Test
-    void testFindAllNotDeletedByNumbers() {
+    void testSoftDeleteAllByNumbers() {
         Set<Long> numbers = Set.of(card1.getNumber(), card2.getNumber());
-        Pageable pageable = PageRequest.of(0, 10);
+        long countBefore = cardRepository.countNotDeleted();
         
-        Page<Card> result = cardRepository.findAllNotDeletedByNumbers(numbers, pageable);
+        assertEquals(2, cardRepository.softDeleteAllByNumbers(numbers.toArray(Long[]::new)));
+        assertEquals(0, cardRepository.softDeleteAllByNumbers(numbers.toArray(Long[]::new)));
 
-        assertEquals(2, result.getTotalElements());
-        assertTrue(result.getContent().stream().allMatch(c -> numbers.contains(c.getNumber())));
+        assertEquals(countBefore - 2, cardRepository.countNotDeleted());
+        assertTrue(cardRepository.findNumbersByUserId(user1.getId()).isEmpty());
+        assertEquals(List.of(card3.getNumber()), cardRepository.findNumbersByUserId(user2.getId()));
     }
 
     @Test
-    void testSoftDeleteAllByNumbers() {
-        Set<Long> numbers = Set.of(card1.getNumber(), card2.getNumber());
-        Pageable pageable = PageRequest.of(0, 100);
-        long countBefore = cardRepository.findAllNotDeleted(pageable).getTotalElements();
+    void testSoftDeleteAllByUserIds() {
+        Long[] userIds = { user1.getId() };
         
-        cardRepository.softDeleteAllByNumbers(numbers);
+        assertTrue(cardRepository.softDeleteAllByUserIds(userIds) > 0);
 
-        Page<Card> result = cardRepository.findAllNotDeleted(pageable);
-        
-        assertTrue(result.getTotalElements() < countBefore);
-        assertFalse(result.getContent().stream().anyMatch(c -> numbers.contains(c.getNumber())));
-        assertTrue(result.getContent().stream().anyMatch(c -> c.getNumber().equals(card3.getNumber())));
+        assertEquals(0, cardRepository.countNotDeletedByUserId(user1.getId()));
     }
 
     @Test
-    void testSoftDeleteAllByUserIds() {
-        Set<Long> userIds = Set.of(user1.getId());
-        
-        cardRepository.softDeleteAllByUserIds(userIds);
+    void testFindNotDeletedNumbersByUserIds() {
+        Long[] userIds = { user1.getId(), user2.getId() };
 
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Card> result = cardRepository.findAllByUserId(user1.getId(), pageable);
-        
-        assertEquals(0, result.getTotalElements());
+        List<Long> all = cardRepository.findNotDeletedNumbersByUserIds(userIds, 100);
+
+        assertEquals(Set.of(card1.getNumber(), card2.getNumber(), card3.getNumber()), Set.copyOf(all));
+        assertEquals(2, cardRepository.findNotDeletedNumbersByUserIds(userIds, 2).size());
+        assertTrue(cardRepository.findNotDeletedNumbersByUserIds(new Long[] { -1L }, 100).isEmpty());
     }
 
     @Test
@@ -166,4 +138,127 @@ class CardRepositoryTest {
         assertNotNull(sequence2);
         assertTrue(sequence2 > sequence1);
     }
+
+    @Test
+    void testInsertAll() {
+        List<Card> cards = List.of(
+            new Card(7777123456789016L, "Lote 1", true, CardType.ESTUDANTE, user1),
+            new Card(7777123456789017L, "Lote 2", true, CardType.ESTUDANTE, user2)
+        );
+
+        cardRepository.insertAll(cards);
+
+        Optional<Card> inserted = cardRepository.findById(7777123456789017L);
+        assertTrue(inserted.isPresent());
+        assertEquals(user2.getId(), inserted.get().getUser().getId());
+        assertEquals("Lote 2", inserted.get().getTitle());
+        assertEquals(CardType.ESTUDANTE, inserted.get().getType());
+        assertFalse(inserted.get().getIsDeleted());
+        assertNotNull(inserted.get().getRecord());
+    }
+
+    @Test
+    void testFindNotDeletedAfter() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CardRowDTO> firstPage = cardRepository.findNotDeletedAfter(0L, PageRequest.of(0, 2));
+        List<CardRowDTO> nextPage = cardRepository.findNotDeletedAfter(firstPage.get(1).record(), PageRequest.of(0, 100));
+
+        assertEquals(2, firstPage.size());
+        assertTrue(firstPage.get(0).record() < firstPage.get(1).record());
+        assertTrue(nextPage.stream().allMatch(c -> c.record() > firstPage.get(1).record()));
+        assertFalse(nextPage.stream().anyMatch(c -> c.number().equals(deletedCard.getNumber())));
+    }
+
+    @Test
+    void testFindByUserIdAfter() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CardRowDTO> all = cardRepository.findByUserIdAfter(user1.getId(), 0L, PageRequest.of(0, 10));
+        List<CardRowDTO> result = cardRepository.findByUserIdAfter(user1.getId(), all.get(0).record(), PageRequest.of(0, 10));
+
+        assertEquals(2, all.size());
+        assertEquals(card1.getNumber(), all.get(0).number());
+        assertEquals(1, result.size());
+        assertEquals(card2.getNumber(), result.get(0).number());
+        assertEquals("Cartão 2", result.get(0).title());
+    }
+
+    @Test
+    void testFindSliceNotDeleted() {
+        Slice<CardResponseDTO> result = cardRepository.findSliceNotDeleted(PageRequest.of(0, 2));
+
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        assertFalse(result.getContent().stream().anyMatch(c -> c.number().equals(deletedCard.getNumber())));
+    }
+
+    @Test
+    void testFindSliceByUserId_projectsWithoutOwner() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<CardResponseDTO> result = cardRepository.findSliceByUserId(user1.getId(), PageRequest.of(0, 10));
+
+        assertEquals(List.of(card1.getNumber(), card2.getNumber()), result.getContent().stream().map(CardResponseDTO::number).toList());
+        assertEquals(false, result.getContent().get(1).status());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testFindById_ownerIsLazy() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Card card = cardRepository.findById(card1.getNumber()).orElseThrow();
+
+        assertFalse(Hibernate.isInitialized(card.getUser()));
+        assertEquals(user1.getId(), card.getUser().getId());
+    }
+
+    @Test
+    void testCountNotDeleted() {
+        long total = cardRepository.findAll().stream().filter(card -> !card.getIsDeleted()).count();
+
+        assertEquals(total, cardRepository.countNotDeleted());
+        assertEquals(2, cardRepository.countNotDeletedByUserId(user1.getId()));
+        assertEquals(2, cardRepository.findSliceByUserId(user1.getId(), PageRequest.of(0, 10)).getNumberOfElements());
+    }
+
+    @Test
+    void testFindNumbersByUserId() {
+        List<Long> result = cardRepository.findNumbersByUserId(user1.getId());
+
+        assertEquals(List.of(card1.getNumber(), card2.getNumber()), result);
+    }
+
+    @Test
+    void testFindNumberSliceByUserId() {
+        Slice<Long> first = cardRepository.findNumberSliceByUserId(user1.getId(), PageRequest.of(0, 1));
+        Slice<Long> second = cardRepository.findNumberSliceByUserId(user1.getId(), PageRequest.of(1, 1));
+
+        assertEquals(List.of(card1.getNumber()), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(card2.getNumber()), second.getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testForEachNotDeleted() {
+        entityManager.flush();
+        List<CardExportRowDTO> rows = new ArrayList<>();
+
+        cardRepository.forEachNotDeleted(rows::add);
+
+        List<Long> numbers = rows.stream().map(CardExportRowDTO::number).toList();
+        assertTrue(numbers.containsAll(List.of(card1.getNumber(), card2.getNumber(), card3.getNumber())));
+        assertFalse(numbers.contains(deletedCard.getNumber()));
+
+        CardExportRowDTO row = rows.stream().filter(r -> r.number().equals(card3.getNumber())).findFirst().orElseThrow();
+        assertEquals("Cartão 3", row.title());
+        assertEquals(CardType.TRABALHADOR, row.type());
+        assertEquals(user2.getId(), row.userId());
+    }
 }
@@ -0,0 +1,107 @@
+package com.urbanape.api.domain.cards.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.urbanape.api.domain.cards.dtos.CardExportRowDTO;
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class CardExportServiceTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Spy
+    private JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @InjectMocks
+    private CardExportService cardExportService;
+
+    @Test
+    void testExport_ndjson() throws IOException {
+        stubRows(
+            new CardExportRowDTO(7777123456789012L, "Cartão 1", true, CardType.COMUM, 1L),
+            new CardExportRowDTO(7777123456789013L, "Cartão 2", false, CardType.ESTUDANTE, 2L)
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        cardExportService.export(CardExportService.Format.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].endsWith("}"));
+        assertTrue(lines[0].contains("\"number\":7777123456789012"));
+        assertTrue(lines[0].contains("\"title\":\"Cartão 1\""));
+        assertTrue(lines[0].contains("\"type\":\"COMUM\""));
+        assertTrue(lines[0].contains("\"userId\":1"));
+    }
+
+    @Test
+    void testExport_csvEscapesTitles() throws IOException {
+        stubRows(
+            new CardExportRowDTO(7777123456789012L, "Cartão \"Principal\", casa", true, CardType.COMUM, 1L),
+            new CardExportRowDTO(7777123456789013L, "=HYPERLINK(\"x\")", false, CardType.ESTUDANTE, 2L)
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        cardExportService.export(CardExportService.Format.CSV, output);
+
+        assertEquals(
+            "number,title,status,type,userId\n" +
+            "7777123456789012,\"Cartão \"\"Principal\"\", casa\",true,COMUM,1\n" +
+            "7777123456789013,\"'=HYPERLINK(\"\"x\"\")\",false,ESTUDANTE,2\n",
+            output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testExport_clientDisconnectStopsExport() {
+        stubRows(new CardExportRowDTO(7777123456789012L, "Cartão 1", true, CardType.COMUM, 1L));
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // A linha fica no buffer e só falha ao descarregar; o erro chega como IOException, não como erro de consulta
+        assertThrows(IOException.class, () -> cardExportService.export(CardExportService.Format.NDJSON, closed));
+    }
+
+    @Test
+    void testFormatFrom() {
+        assertEquals(CardExportService.Format.CSV, CardExportService.Format.from("CSV"));
+        assertEquals(CardExportService.Format.NDJSON, CardExportService.Format.from("ndjson"));
+        assertNull(CardExportService.Format.from("xml"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(CardExportRowDTO... rows) {
+        doAnswer(invocation -> {
+            Consumer<CardExportRowDTO> action = invocation.getArgument(0);
+            for (CardExportRowDTO row : rows) action.accept(row);
+            return null;
+        }).when(cardRepository).forEachNotDeleted(any(Consumer.class));
+    }
+}
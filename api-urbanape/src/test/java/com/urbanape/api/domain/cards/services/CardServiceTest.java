@@ -1,5 +1,7 @@
 package com.urbanape.api.domain.cards.services;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,28 +15,42 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import com.urbanape.api.domain.cards.components.CardNumberAllocator;
+import com.urbanape.api.domain.cards.dtos.CardBatchResponseDTO;
 import com.urbanape.api.domain.cards.dtos.CardResponseDTO;
+import com.urbanape.api.domain.cards.dtos.CardRowDTO;
 import com.urbanape.api.domain.cards.dtos.DeleteCardListRequestDTO;
+import com.urbanape.api.domain.cards.dtos.DeleteCardListResponseDTO;
+import com.urbanape.api.domain.cards.dtos.NewCardBatchRequestDTO;
 import com.urbanape.api.domain.cards.dtos.NewCardRequestDTO;
 import com.urbanape.api.domain.cards.dtos.UpdateCardRequestDTO;
 import com.urbanape.api.domain.cards.entities.Card;
 import com.urbanape.api.domain.cards.entities.CardType;
 import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.events.UsersDeletedEvent;
 import com.urbanape.api.domain.users.entities.UserRole;
 import com.urbanape.api.domain.users.services.UserService;
+import com.urbanape.api.infra.bulk.BulkIdChunker;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
+import com.urbanape.api.infra.pagination.CursorCodec;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 @ExtendWith(MockitoExtension.class)
 class CardServiceTest {
@@ -45,24 +61,42 @@ class CardServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CardNumberAllocator cardNumberAllocator;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private UserVersionRegistry userVersionRegistry;
+
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    // Pedaços de um id para exercitar a divisão nas remoções em massa
+    @Spy
+    private BulkIdChunker bulkIdChunker = new BulkIdChunker(1);
+
     @InjectMocks
     private CardService cardService;
 
     private User user;
     private Card card;
+    private CardResponseDTO cardResponse;
 
     @BeforeEach
     void setup() {
         user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
         card = new Card(7777123456789012L, "Meu Cartão", true, CardType.COMUM, user);
+        cardResponse = new CardResponseDTO(7777123456789012L, "Meu Cartão", true, CardType.COMUM);
     }
 
     @Test
     void testCreate() {
         NewCardRequestDTO request = new NewCardRequestDTO(1L, "Cartão Novo", CardType.ESTUDANTE);
         
-        when(cardRepository.nextCardNumber()).thenReturn(100L);
         when(userService.findEntityById(1L)).thenReturn(user);
+        when(cardNumberAllocator.next()).thenReturn(100L);
         when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         CardResponseDTO result = cardService.create(request);
@@ -71,33 +105,91 @@ class CardServiceTest {
         assertEquals("Cartão Novo", result.title());
         assertEquals(CardType.ESTUDANTE, result.type());
         assertTrue(result.status());
+        assertEquals(CardService.generateCardNumber(100L), result.number());
         verify(cardRepository).save(any(Card.class));
+        verify(cardRepository, never()).nextCardNumber();
+        verify(totalCountCache).invalidate("cards");
+        verify(userVersionRegistry).bump(Set.of(1L));
     }
 
     @Test
     void testCreate_whenUserNotFound() {
         NewCardRequestDTO request = new NewCardRequestDTO(999L, "Cartão", CardType.COMUM);
         
-        when(cardRepository.nextCardNumber()).thenReturn(100L);
         when(userService.findEntityById(999L)).thenReturn(null);
 
         CardResponseDTO result = cardService.create(request);
 
         assertNull(result);
         verify(cardRepository, never()).save(any());
+        verify(cardNumberAllocator, never()).next();
+    }
+
+    @Test
+    void testCreateBatch() {
+        NewCardBatchRequestDTO request = new NewCardBatchRequestDTO(List.of(
+            new NewCardRequestDTO(1L, "Cartão A", CardType.ESTUDANTE),
+            new NewCardRequestDTO(999L, "Cartão B", CardType.ESTUDANTE),
+            new NewCardRequestDTO(1L, "Cartão C", CardType.COMUM)
+        ));
+
+        when(userService.findEntitiesByIds(Set.of(1L, 999L))).thenReturn(Map.of(1L, user));
+        when(cardNumberAllocator.allocate(2)).thenReturn(new long[] { 51L, 52L });
+
+        CardBatchResponseDTO result = cardService.createBatch(request);
+
+        assertEquals(2, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(3, result.results().size());
+        assertEquals(CardService.generateCardNumber(51L), result.results().get(0).card().number());
+        assertNull(result.results().get(1).card());
+        assertEquals("User not found", result.results().get(1).error());
+        assertEquals(CardService.generateCardNumber(52L), result.results().get(2).card().number());
+        verify(cardRepository).insertAll(org.mockito.ArgumentMatchers.argThat(cards -> cards.size() == 2));
+        verify(cardRepository, never()).save(any());
     }
 
     @Test
     void testFindAll() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Card> cardPage = new PageImpl<>(java.util.List.of(card), pageable, 1);
+        Slice<CardResponseDTO> cardSlice = new SliceImpl<>(java.util.List.of(cardResponse), pageable, false);
         
-        when(cardRepository.findAllNotDeleted(pageable)).thenReturn(cardPage);
+        when(cardRepository.findSliceNotDeleted(pageable)).thenReturn(cardSlice);
 
         Page<CardResponseDTO> result = cardService.findAll(pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals("Meu Cartão", result.getContent().get(0).title());
+        verify(totalCountCache, never()).get(any(), any());
+    }
+
+    @Test
+    void testFindAll_fullPageUsesCachedCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<CardResponseDTO> cardSlice = new SliceImpl<>(java.util.List.of(cardResponse), pageable, true);
+
+        when(cardRepository.findSliceNotDeleted(pageable)).thenReturn(cardSlice);
+        when(totalCountCache.get(eq("cards"), any())).thenReturn(35L);
+
+        Page<CardResponseDTO> result = cardService.findAll(pageable);
+
+        assertEquals(35, result.getTotalElements());
+        assertEquals(35, result.getTotalPages());
+        verify(cardRepository, never()).countNotDeleted();
+    }
+
+    @Test
+    void testFindAllSlice() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<CardResponseDTO> cardSlice = new SliceImpl<>(java.util.List.of(cardResponse), pageable, true);
+
+        when(cardRepository.findSliceNotDeleted(pageable)).thenReturn(cardSlice);
+
+        Slice<CardResponseDTO> result = cardService.findAllSlice(pageable);
+
+        assertTrue(result.hasNext());
+        assertEquals("Meu Cartão", result.getContent().get(0).title());
+        verify(totalCountCache, never()).get(any(), any());
     }
 
     @Test
@@ -123,20 +215,33 @@ class CardServiceTest {
     @Test
     void testFindAllByUserId() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Card> cardPage = new PageImpl<>(java.util.List.of(card), pageable, 1);
+        Slice<CardResponseDTO> cardSlice = new SliceImpl<>(java.util.List.of(cardResponse), pageable, false);
         
-        when(cardRepository.findAllByUserId(1L, pageable)).thenReturn(cardPage);
+        when(cardRepository.findSliceByUserId(1L, pageable)).thenReturn(cardSlice);
 
         Page<CardResponseDTO> result = cardService.findAllByUserId(1L, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(cardRepository).findAllByUserId(1L, pageable);
+        verify(cardRepository).findSliceByUserId(1L, pageable);
+    }
+
+    @Test
+    void testFindAllByUserIdSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<CardResponseDTO> cardSlice = new SliceImpl<>(java.util.List.of(cardResponse), pageable, false);
+
+        when(cardRepository.findSliceByUserId(1L, pageable)).thenReturn(cardSlice);
+
+        Slice<CardResponseDTO> result = cardService.findAllByUserIdSlice(1L, pageable);
+
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getNumberOfElements());
     }
 
     @Test
     void testFindByIdAndUserId() {
         when(cardRepository.findByIdAndUserId(7777123456789012L, 1L))
-            .thenReturn(Optional.of(card));
+            .thenReturn(Optional.of(cardResponse));
 
         CardResponseDTO result = cardService.findByIdAndUserId(7777123456789012L, 1L);
 
@@ -200,22 +305,63 @@ class CardServiceTest {
         Set<Long> numbers = Set.of(7777123456789012L, 7777123456789013L);
         DeleteCardListRequestDTO request = new DeleteCardListRequestDTO(numbers);
         
-        doNothing().when(cardRepository).softDeleteAllByNumbers(numbers);
-
-        cardService.deleteAll(request);
-
-        verify(cardRepository).softDeleteAllByNumbers(numbers);
+        when(cardRepository.findUserIdsByNumbers(new Long[] { 7777123456789012L })).thenReturn(List.of(1L));
+        when(cardRepository.findUserIdsByNumbers(new Long[] { 7777123456789013L })).thenReturn(List.of(2L));
+        when(cardRepository.softDeleteAllByNumbers(any())).thenReturn(1);
+
+        DeleteCardListResponseDTO result = cardService.deleteAll(request);
+
+        assertEquals(2, result.cards());
+        verify(cardRepository).softDeleteAllByNumbers(new Long[] { 7777123456789012L });
+        verify(cardRepository).softDeleteAllByNumbers(new Long[] { 7777123456789013L });
+        verify(secondLevelCacheEvictor).evict(Card.class);
+        verify(totalCountCache).invalidate("cards");
+        verify(userVersionRegistry).bump(List.of(1L, 2L));
     }
 
     @Test
     void testDeleteAllByUserIds() {
         Set<Long> userIds = Set.of(1L, 2L);
         
-        doNothing().when(cardRepository).softDeleteAllByUserIds(userIds);
+        when(cardRepository.softDeleteAllByUserIds(new Long[] { 1L })).thenReturn(3);
+        when(cardRepository.softDeleteAllByUserIds(new Long[] { 2L })).thenReturn(0);
+
+        assertEquals(3, cardService.deleteAllByUserIds(userIds));
+        verify(userVersionRegistry).bump(userIds);
+    }
+
+    @Test
+    void testDeleteChunkByUserIds() {
+        Set<Long> userIds = Set.of(1L);
 
-        cardService.deleteAllByUserIds(userIds);
+        when(cardRepository.findNotDeletedNumbersByUserIds(new Long[] { 1L }, 2)).thenReturn(List.of(7777123456789012L, 7777123456789013L));
+        when(cardRepository.softDeleteAllByNumbers(new Long[] { 7777123456789012L, 7777123456789013L })).thenReturn(2);
+
+        assertEquals(2, cardService.deleteChunkByUserIds(userIds, 2));
+        verify(secondLevelCacheEvictor).evict(Card.class);
+        verify(totalCountCache).invalidate("cards");
+        verify(userVersionRegistry).bump(userIds);
+    }
+
+    @Test
+    void testDeleteChunkByUserIds_nothingLeft() {
+        when(cardRepository.findNotDeletedNumbersByUserIds(new Long[] { 1L }, 100)).thenReturn(List.of());
 
-        verify(cardRepository).softDeleteAllByUserIds(userIds);
+        assertEquals(0, cardService.deleteChunkByUserIds(Set.of(1L), 100));
+        verify(cardRepository, never()).softDeleteAllByNumbers(any());
+        verify(secondLevelCacheEvictor, never()).evict(any());
+        verify(userVersionRegistry, never()).bump(any());
+    }
+
+    @Test
+    void testOnUsersDeleted() {
+        when(cardRepository.softDeleteAllByUserIds(new Long[] { 1L })).thenReturn(2);
+
+        cardService.onUsersDeleted(new UsersDeletedEvent(Set.of(1L)));
+
+        verify(cardRepository).softDeleteAllByUserIds(new Long[] { 1L });
+        verify(secondLevelCacheEvictor).evict(Card.class);
+        verify(totalCountCache).invalidate("cards");
     }
 
     @Test
@@ -236,4 +382,63 @@ class CardServiceTest {
 
         assertNotEquals(card1, card2);
     }
+
+    @Test
+    void testGenerateCardNumber_keepsIssuedNumbers() {
+        assertEquals(7777000000079190L, CardService.generateCardNumber(1L));
+        assertEquals(77775838000000004L, CardService.generateCardNumber(200_000_000L));
+    }
+
+    @Test
+    void testIsValidCardNumber() {
+        long cardNumber = CardService.generateCardNumber(12345L);
+
+        assertTrue(CardService.isValidCardNumber(cardNumber));
+        assertTrue(CardService.isValidCardNumber(CardService.generateCardNumber(200_000_000L)));
+        assertFalse(CardService.isValidCardNumber(cardNumber + 1));
+        assertFalse(CardService.isValidCardNumber(7777123456789012L));
+        assertFalse(CardService.isValidCardNumber(4111111111111111L));
+        assertFalse(CardService.isValidCardNumber(0L));
+        assertFalse(CardService.isValidCardNumber(-cardNumber));
+    }
+
+    @Test
+    void testFindAllAfter() {
+        CardRowDTO first = new CardRowDTO(41L, 7777000000000011L, "Cartão 1", true, CardType.COMUM);
+        CardRowDTO second = new CardRowDTO(42L, 7777000000000029L, "Cartão 2", true, CardType.COMUM);
+        CardRowDTO extra = new CardRowDTO(43L, 7777000000000037L, "Cartão 3", true, CardType.COMUM);
+        when(cardRepository.findNotDeletedAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(first, second, extra));
+
+        CursorPageDTO<CardResponseDTO> result = cardService.findAllAfter(null, 2);
+
+        assertEquals(2, result.content().size());
+        assertEquals("Cartão 2", result.content().get(1).title());
+        assertTrue(result.hasNext());
+        assertEquals(42L, CursorCodec.decode(result.nextCursor()));
+    }
+
+    @Test
+    void testFindAllByUserIdAfter_lastPage() {
+        when(cardRepository.findByUserIdAfter(1L, 42L, PageRequest.of(0, 21)))
+            .thenReturn(List.of(new CardRowDTO(43L, 7777123456789012L, "Meu Cartão", true, CardType.COMUM)));
+
+        CursorPageDTO<CardResponseDTO> result = cardService.findAllByUserIdAfter(1L, CursorCodec.encode(42L), 20);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void testFindNumbersByUserIdSlice() {
+        Pageable pageable = PageRequest.of(0, 2);
+        Slice<Long> numbers = new SliceImpl<>(List.of(7777123456789012L, 7777123456789013L), pageable, true);
+
+        when(cardRepository.findNumberSliceByUserId(1L, pageable)).thenReturn(numbers);
+
+        Slice<Long> result = cardService.findNumbersByUserIdSlice(1L, pageable);
+
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+    }
 }
@@ -0,0 +1,128 @@
+package com.urbanape.api.domain.jobs.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.jobs.entities.Job;
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.repositories.JobRepository;
+import com.urbanape.api.domain.users.services.UserService;
+
+@ExtendWith(MockitoExtension.class)
+class JobWorkerTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CardService cardService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobWorker worker;
+
+    private Job job;
+
+    @BeforeEach
+    void setup() {
+        worker = new JobWorker(jobRepository, userService, cardService, transactionManager, 2, 10, 2);
+        job = new Job(JobType.USER_DELETION, new Long[] { 1L, 2L, 3L });
+        ReflectionTestUtils.setField(job, "id", 7L);
+    }
+
+    @Test
+    void testProcessNextChunk_noJob() {
+        when(jobRepository.lockNextRunnable()).thenReturn(Optional.empty());
+
+        assertFalse(worker.processNextChunk());
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void testProcessNextChunk_advancesInChunks() {
+        when(jobRepository.lockNextRunnable()).thenReturn(Optional.of(job));
+        when(userService.delete(Set.of(1L, 2L))).thenReturn(2);
+        when(userService.delete(Set.of(3L))).thenReturn(0);
+
+        assertTrue(worker.processNextChunk());
+        assertEquals(2, job.getProcessed());
+        assertEquals(JobStatus.RUNNING, job.getStatus());
+
+        assertTrue(worker.processNextChunk());
+        assertEquals(3, job.getProcessed());
+        assertEquals(2, job.getAffected());
+        assertEquals(JobStatus.DONE, job.getStatus());
+        verify(jobRepository, times(2)).save(job);
+    }
+
+    @Test
+    void testProcessNextChunk_deletesCardsBeforeUsers() {
+        when(jobRepository.lockNextRunnable()).thenReturn(Optional.of(job));
+        when(cardService.deleteChunkByUserIds(Set.of(1L, 2L), 10)).thenReturn(10, 10, 3);
+        when(userService.delete(Set.of(1L, 2L))).thenReturn(2);
+
+        assertTrue(worker.processNextChunk());
+        assertTrue(worker.processNextChunk());
+        assertEquals(0, job.getProcessed());
+        assertEquals(20, job.getCardsAffected());
+        assertEquals(JobStatus.RUNNING, job.getStatus());
+        verify(userService, never()).delete(any());
+
+        assertTrue(worker.processNextChunk());
+        assertEquals(2, job.getProcessed());
+        assertEquals(2, job.getAffected());
+        assertEquals(23, job.getCardsAffected());
+        verify(userService).delete(Set.of(1L, 2L));
+    }
+
+    @Test
+    void testPoll_drainsQueue() {
+        when(jobRepository.lockNextRunnable()).thenReturn(Optional.of(job), Optional.of(job), Optional.empty());
+        when(userService.delete(any())).thenReturn(1);
+
+        worker.poll();
+
+        assertEquals(JobStatus.DONE, job.getStatus());
+        verify(userService, times(2)).delete(any());
+    }
+
+    @Test
+    void testProcessNextChunk_failureIsRecorded() {
+        when(jobRepository.lockNextRunnable()).thenReturn(Optional.of(job));
+        when(userService.delete(any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(jobRepository.lockById(7L)).thenReturn(Optional.of(job));
+
+        assertFalse(worker.processNextChunk());
+        assertEquals(1, job.getAttempts());
+        assertEquals(0, job.getProcessed());
+        assertEquals(JobStatus.PENDING, job.getStatus());
+        assertTrue(job.getError().contains("item 0"));
+
+        assertFalse(worker.processNextChunk());
+        assertEquals(JobStatus.FAILED, job.getStatus());
+    }
+}
@@ -0,0 +1,49 @@
+package com.urbanape.api.domain.jobs.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.services.JobService;
+
+@ExtendWith(MockitoExtension.class)
+class JobControllerTest {
+
+    @Mock
+    private JobService jobService;
+
+    @InjectMocks
+    private JobController controller;
+
+    @Test
+    void testGetJob() {
+        JobResponseDTO job = new JobResponseDTO(1L, JobType.USER_DELETION, JobStatus.RUNNING, 1000, 500, 498, 12000, null, Instant.now(), Instant.now());
+
+        org.mockito.Mockito.when(jobService.findById(1L)).thenReturn(job);
+
+        ResponseEntity<JobResponseDTO> response = controller.getJob(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(500, response.getBody().processed());
+    }
+
+    @Test
+    void testGetJob_notFound() {
+        org.mockito.Mockito.when(jobService.findById(999L)).thenReturn(null);
+
+        ResponseEntity<JobResponseDTO> response = controller.getJob(999L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,67 @@
+package com.urbanape.api.domain.jobs.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.urbanape.api.domain.jobs.entities.Job;
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JobRepositoryTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testSave_targetIds() {
+        Job job = jobRepository.save(new Job(JobType.USER_DELETION, new Long[] { 3L, 5L, 8L }));
+        entityManager.flush();
+        entityManager.clear();
+
+        Job found = jobRepository.findById(job.getId()).orElseThrow();
+
+        assertArrayEquals(new Long[] { 3L, 5L, 8L }, found.getTargetIds());
+        assertEquals(3, found.getTotal());
+        assertEquals(JobStatus.PENDING, found.getStatus());
+    }
+
+    @Test
+    void testLockNextRunnable() {
+        Job done = new Job(JobType.USER_DELETION, new Long[] { 1L });
+        done.advance(1, 1);
+        jobRepository.save(done);
+        Job pending = jobRepository.save(new Job(JobType.USER_DELETION, new Long[] { 2L }));
+        jobRepository.save(new Job(JobType.USER_DELETION, new Long[] { 3L }));
+        entityManager.flush();
+
+        Optional<Job> next = jobRepository.lockNextRunnable();
+
+        assertTrue(next.isPresent());
+        assertEquals(pending.getId(), next.get().getId());
+    }
+
+    @Test
+    void testLockById() {
+        Job job = jobRepository.save(new Job(JobType.USER_DELETION, new Long[] { 4L }));
+        entityManager.flush();
+
+        assertTrue(jobRepository.lockById(job.getId()).isPresent());
+    }
+}
@@ -0,0 +1,56 @@
+package com.urbanape.api.domain.jobs.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.entities.Job;
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.repositories.JobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Test
+    void testEnqueueUserDeletion() {
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobResponseDTO result = jobService.enqueueUserDeletion(Set.of(30L, 10L, 20L));
+
+        ArgumentCaptor<Job> job = ArgumentCaptor.forClass(Job.class);
+        verify(jobRepository).save(job.capture());
+        assertArrayEquals(new Long[] { 10L, 20L, 30L }, job.getValue().getTargetIds());
+        assertEquals(JobType.USER_DELETION, result.type());
+        assertEquals(JobStatus.PENDING, result.status());
+        assertEquals(3, result.total());
+        assertEquals(0, result.processed());
+    }
+
+    @Test
+    void testFindById_notFound() {
+        when(jobRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertNull(jobService.findById(1L));
+    }
+}
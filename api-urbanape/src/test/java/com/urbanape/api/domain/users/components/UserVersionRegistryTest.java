@@ -0,0 +1,55 @@
+package com.urbanape.api.domain.users.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserVersionRegistryTest {
+
+    private UserVersionRegistry userVersionRegistry;
+
+    @BeforeEach
+    void setup() {
+        userVersionRegistry = new UserVersionRegistry(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testEtag_stableUntilBump() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cards/me");
+
+        String first = userVersionRegistry.etag(1L, request);
+
+        assertEquals(first, userVersionRegistry.etag(1L, request));
+        assertNotEquals(first, userVersionRegistry.etag(2L, request));
+
+        userVersionRegistry.bump(Set.of(1L));
+
+        assertNotEquals(first, userVersionRegistry.etag(1L, request));
+    }
+
+    @Test
+    void testEtag_variesWithQuery() {
+        MockHttpServletRequest firstPage = new MockHttpServletRequest("GET", "/api/v1/cards/me");
+        firstPage.setQueryString("page=0");
+        MockHttpServletRequest secondPage = new MockHttpServletRequest("GET", "/api/v1/cards/me");
+        secondPage.setQueryString("page=1");
+
+        assertNotEquals(userVersionRegistry.etag(1L, firstPage), userVersionRegistry.etag(1L, secondPage));
+    }
+
+    @Test
+    void testEtag_newInstanceNeverRepeats() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        UserVersionRegistry restarted = new UserVersionRegistry(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        assertNotEquals(userVersionRegistry.etag(1L, request), restarted.etag(1L, request));
+    }
+}
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
@@ -18,15 +22,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.urbanape.api.domain.auth.dtos.AuthenticatedUserDTO;
+import com.urbanape.api.domain.jobs.dtos.JobResponseDTO;
+import com.urbanape.api.domain.jobs.entities.JobStatus;
+import com.urbanape.api.domain.jobs.entities.JobType;
+import com.urbanape.api.domain.jobs.services.JobService;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.dtos.DeleteUserListRequestDTO;
 import com.urbanape.api.domain.users.dtos.UpdateUserRequestDTO;
+import com.urbanape.api.domain.users.dtos.UserImportErrorDTO;
+import com.urbanape.api.domain.users.dtos.UserImportReportDTO;
 import com.urbanape.api.domain.users.dtos.UserResponseDTO;
-import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.domain.users.services.UserImportService;
 import com.urbanape.api.domain.users.services.UserService;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
 
 @ExtendWith(MockitoExtension.class)
 class UserControllerTest {
@@ -34,14 +52,23 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserVersionRegistry userVersionRegistry;
+
+    @Mock
+    private UserImportService userImportService;
+
+    @Mock
+    private JobService jobService;
+
     @InjectMocks
     private UserController controller;
 
-    private User user;
+    private AuthenticatedUserDTO user;
 
     @BeforeEach
     void setup() {
-        user = new User(1L, "João", "joao@test.com", "senha123", UserRole.USER);
+        user = new AuthenticatedUserDTO(1L, "João", "joao@test.com", UserRole.USER);
     }
 
     @Test
@@ -76,20 +103,47 @@ class UserControllerTest {
     void testGetMe() {
         UserResponseDTO userDTO = new UserResponseDTO(1L, "João", "joao@test.com", UserRole.USER, List.of());
         
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
         org.mockito.Mockito.when(userService.findById(1L)).thenReturn(userDTO);
 
-        ResponseEntity<UserResponseDTO> response = controller.getMe(user);
+        ResponseEntity<UserResponseDTO> response = controller.getMe(user, request(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("João", response.getBody().name());
         assertEquals("joao@test.com", response.getBody().email());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetMe_notModified() {
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
+
+        ResponseEntity<UserResponseDTO> response = controller.getMe(user, request("\"v1\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        org.mockito.Mockito.verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testGetMe_staleEtag() {
+        UserResponseDTO userDTO = new UserResponseDTO(1L, "João", "joao@test.com", UserRole.USER, List.of());
+
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v2\"");
+        org.mockito.Mockito.when(userService.findById(1L)).thenReturn(userDTO);
+
+        ResponseEntity<UserResponseDTO> response = controller.getMe(user, request("\"v1\""));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"v2\"", response.getHeaders().getETag());
     }
 
     @Test
     void testGetMe_notFound() {
+        org.mockito.Mockito.when(userVersionRegistry.etag(eq(1L), any())).thenReturn("\"v1\"");
         org.mockito.Mockito.when(userService.findById(any())).thenReturn(null);
 
-        ResponseEntity<UserResponseDTO> response = controller.getMe(user);
+        ResponseEntity<UserResponseDTO> response = controller.getMe(user, request(null));
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
@@ -145,19 +199,70 @@ class UserControllerTest {
     void testDeleteUser() {
         DeleteUserListRequestDTO deleteDTO = new DeleteUserListRequestDTO(Set.of(1L, 2L));
         
-        org.mockito.Mockito.doNothing().when(userService).delete(any());
+        JobResponseDTO job = new JobResponseDTO(10L, JobType.USER_DELETION, JobStatus.PENDING, 2, 0, 0, 0, null, Instant.now(), Instant.now());
+
+        org.mockito.Mockito.when(jobService.enqueueUserDeletion(Set.of(1L, 2L))).thenReturn(job);
 
-        ResponseEntity<Void> response = controller.deleteUser(deleteDTO);
+        ResponseEntity<JobResponseDTO> response = controller.deleteUser(deleteDTO);
 
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/api/v1/admin/jobs/10", response.getHeaders().getLocation().toString());
+        assertEquals(10L, response.getBody().id());
+        org.mockito.Mockito.verifyNoInteractions(userService);
     }
 
     @Test
     void testDeleteUser_emptyList() {
         DeleteUserListRequestDTO deleteDTO = new DeleteUserListRequestDTO(Set.of());
 
-        ResponseEntity<Void> response = controller.deleteUser(deleteDTO);
+        ResponseEntity<JobResponseDTO> response = controller.deleteUser(deleteDTO);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+
+    @Test
+    void testGetUsersByCursor() {
+        UserResponseDTO user1 = new UserResponseDTO(1L, "João", "joao@test.com", UserRole.USER, List.of());
+        CursorPageDTO<UserResponseDTO> page = new CursorPageDTO<>(List.of(user1), 20, false, null);
+
+        org.mockito.Mockito.when(userService.findAllAfter("", null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<UserResponseDTO>> response = controller.getUsersByCursor(null, null, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().content().size());
+    }
+
+    @Test
+    void testGetUsersSlice() {
+        UserResponseDTO user1 = new UserResponseDTO(1L, "João", "joao@test.com", UserRole.USER, List.of());
+        Slice<UserResponseDTO> slice = new SliceImpl<>(List.of(user1), PageRequest.of(0, 1), true);
+
+        org.mockito.Mockito.when(userService.findAllSlice(eq(""), any(Pageable.class))).thenReturn(slice);
+
+        ResponseEntity<Slice<UserResponseDTO>> response = controller.getUsersSlice(null, PageRequest.of(0, 1));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(true, response.getBody().hasNext());
+    }
+
+    @Test
+    void testImportUsers() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        UserImportReportDTO report = new UserImportReportDTO(2, 1, 1, 1, List.of(new UserImportErrorDTO(3, "maria@test.com", "User already registered")));
+
+        org.mockito.Mockito.when(userImportService.importCsv(body)).thenReturn(report);
+
+        ResponseEntity<UserImportReportDTO> response = controller.importUsers(body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().usersCreated());
+        assertEquals(1, response.getBody().errors().size());
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        if (ifNoneMatch != null) request.addHeader("If-None-Match", ifNoneMatch);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,108 @@
+package com.urbanape.api.domain.users.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.users.dtos.UserImportRowDTO;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.entities.UserRole;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+
+// COPY só existe no PostgreSQL; roda com IT_DB_URL definido (ver QueryIndexPlanTest) e desfaz tudo ao final
+@EnabledIfEnvironmentVariable(named = "IT_DB_URL", matches = ".+")
+class UserImportRepositoryTest {
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private UserImportRepositoryImpl repository;
+
+    private String suffix;
+
+    @BeforeEach
+    void setup() {
+        String url = System.getenv("IT_DB_URL");
+        String username = System.getenv("IT_DB_USERNAME");
+        String password = System.getenv("IT_DB_PASSWORD");
+
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+
+        dataSource = new SingleConnectionDataSource(url, username, password, true);
+        dataSource.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        repository = new UserImportRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "secondLevelCacheEvictor", Mockito.mock(SecondLevelCacheEvictor.class));
+
+        suffix = Long.toString(System.nanoTime());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dataSource.getConnection().rollback();
+        dataSource.destroy();
+    }
+
+    @Test
+    void testCopyUsersAndCards() {
+        Map<String, Long> ids = repository.copyUsers(List.of(
+            row("ana" + suffix + "@import.test", "Ana \"Aspas\", Souza"),
+            row("bia" + suffix + "@import.test", "Bia Lima")
+        ));
+
+        assertEquals(2, ids.size());
+        assertEquals("Ana \"Aspas\", Souza",
+            jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class, ids.get("ana" + suffix + "@import.test")));
+
+        Long userId = ids.get("bia" + suffix + "@import.test");
+        User user = new User(userId, "Bia Lima", "bia" + suffix + "@import.test", "hash", UserRole.USER);
+        long number = 9_000_000_000_000_000L + System.nanoTime() % 1_000_000_000L;
+
+        assertEquals(1, repository.copyCards(List.of(new Card(number, "Cartão Escolar", true, CardType.ESTUDANTE, user))));
+        assertEquals(userId, jdbcTemplate.queryForObject("SELECT user_id FROM cards WHERE number = ?", Long.class, number));
+    }
+
+    @Test
+    void testFindExistingEmails() {
+        String email = "carla" + suffix + "@import.test";
+        repository.copyUsers(List.of(row(email, "Carla Mendes")));
+
+        Set<String> existing = repository.findExistingEmails(List.of(email, "ninguem" + suffix + "@import.test"));
+
+        assertEquals(Set.of(email), existing);
+    }
+
+    @Test
+    void testCopyUsers_skipsConflicts() {
+        String email = "davi" + suffix + "@import.test";
+        jdbcTemplate.update("INSERT INTO users (name, email, role, password) VALUES ('Davi', ?, 'USER', 'hash')", email);
+
+        Map<String, Long> ids = repository.copyUsers(List.of(row(email, "Davi Costa"), row("eva" + suffix + "@import.test", "Eva Dias")));
+
+        assertEquals(1, ids.size());
+        assertTrue(ids.containsKey("eva" + suffix + "@import.test"));
+    }
+
+    private UserImportRowDTO row(String email, String name) {
+        return new UserImportRowDTO(2, name, email, "hash", UserRole.USER, null, null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.urbanape.api.domain.users.repositories;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -12,9 +14,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,8 @@ import com.urbanape.api.domain.cards.repositories.CardRepository;
 import com.urbanape.api.domain.users.entities.User;
 import com.urbanape.api.domain.users.entities.UserRole;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
@@ -36,6 +40,9 @@ class UserRepositoryTest {
     @Autowired
     private CardRepository cardRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User user1;
     private User user2;
     private User deletedUser;
@@ -53,52 +60,28 @@ class UserRepositoryTest {
     }
 
     @Test
-    void testFindAllNotDeleted() {
+    void testFindNotDeletedIds() {
         Pageable pageable = PageRequest.of(0, 100);
         
-        Page<User> result = userRepository.findAllNotDeleted("", pageable);
+        Slice<Long> result = userRepository.findNotDeletedIds(pageable);
 
-        assertTrue(result.getTotalElements() >= 2);
-        assertFalse(result.getContent().stream().anyMatch(u -> u.getIsDeleted()));
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getEmail().equals("joao@test.com")));
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getEmail().equals("maria@test.com")));
+        assertTrue(result.getNumberOfElements() >= 2);
+        assertFalse(result.getContent().contains(deletedUser.getId()));
+        assertTrue(result.getContent().contains(user1.getId()));
+        assertTrue(result.getContent().contains(user2.getId()));
     }
 
     @Test
-    void testFindAllNotDeleted_withSearchByName() {
-        Pageable pageable = PageRequest.of(0, 100);
-        
-        Page<User> result = userRepository.findAllNotDeleted("joão", pageable);
+    void testFindNotDeletedIds_pagesByUserNotByCard() {
+        cardRepository.save(new Card(7777123456789012L, "Cartão Teste", true, CardType.COMUM, user1));
+        cardRepository.save(new Card(7777123456789015L, "Cartão Teste 2", true, CardType.COMUM, user1));
+        entityManager.flush();
+        entityManager.clear();
 
-        assertTrue(result.getTotalElements() >= 1);
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getName().toLowerCase().contains("joão") || u.getName().toLowerCase().contains("joao")));
-    }
+        List<Long> result = userRepository.findNotDeletedIds(PageRequest.of(0, 100)).getContent();
 
-    @Test
-    void testFindAllNotDeleted_withSearchByEmail() {
-        Pageable pageable = PageRequest.of(0, 100);
-        
-        Page<User> result = userRepository.findAllNotDeleted("maria@test.com", pageable);
-
-        assertTrue(result.getTotalElements() >= 1);
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getEmail().equals("maria@test.com")));
-    }
-
-    @Test
-    void testFindAllNotDeleted_withCards() {
-        Card card = new Card(7777123456789012L, "Cartão Teste", true, CardType.COMUM, user1);
-        cardRepository.save(card);
-        
-        Pageable pageable = PageRequest.of(0, 100);
-        Page<User> result = userRepository.findAllNotDeleted("", pageable);
-
-        User userWithCard = result.getContent().stream()
-            .filter(u -> u.getId().equals(user1.getId()))
-            .findFirst()
-            .orElse(null);
-        
-        assertNotNull(userWithCard);
-        assertEquals("João", userWithCard.getName());
+        assertEquals(1, result.stream().filter(user1.getId()::equals).count());
+        assertTrue(result.indexOf(user1.getId()) < result.indexOf(user2.getId()));
     }
 
     @Test
@@ -109,6 +92,12 @@ class UserRepositoryTest {
         assertEquals("joao@test.com", result.getUsername());
     }
 
+    @Test
+    void testFindNotDeletedByEmail() {
+        assertEquals(user1.getId(), userRepository.findNotDeletedByEmail("joao@test.com").orElseThrow().getId());
+        assertTrue(userRepository.findNotDeletedByEmail("pedro@test.com").isEmpty());
+    }
+
     @Test
     void testFindByEmail_notFound() {
         UserDetails result = userRepository.findByEmail("naoexiste@test.com");
@@ -133,6 +122,15 @@ class UserRepositoryTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testFindTokenVersionById() {
+        user1.setTokenVersion(3);
+        userRepository.save(user1);
+
+        assertEquals(3, userRepository.findTokenVersionById(user1.getId()));
+        assertNull(userRepository.findTokenVersionById(deletedUser.getId()));
+    }
+
     @Test
     void testFindNotDeletedById_withCards() {
         Card card1 = new Card(7777123456789013L, "Cartão 1", true, CardType.COMUM, user1);
@@ -147,18 +145,25 @@ class UserRepositoryTest {
         assertEquals("joao@test.com", result.get().getEmail());
     }
 
+    @Test
+    void testFindAllNotDeletedByIds() {
+        List<User> result = userRepository.findAllNotDeletedByIds(new Long[] { user1.getId(), user2.getId(), deletedUser.getId() });
+
+        assertEquals(Set.of(user1.getId(), user2.getId()), result.stream().map(User::getId).collect(Collectors.toSet()));
+    }
+
     @Test
     void testSoftDeleteAllByIds() {
         Set<Long> ids = Set.of(user1.getId(), user2.getId());
         Pageable pageable = PageRequest.of(0, 100);
-        long countBefore = userRepository.findAllNotDeleted("", pageable).getTotalElements();
+        long countBefore = userRepository.countNotDeleted();
         
-        userRepository.softDeleteAllByIds(ids);
+        assertEquals(2, userRepository.softDeleteAllByIds(ids.toArray(Long[]::new)));
 
-        Page<User> result = userRepository.findAllNotDeleted("", pageable);
+        Slice<Long> result = userRepository.findNotDeletedIds(pageable);
         
-        assertTrue(result.getTotalElements() < countBefore);
-        assertFalse(result.getContent().stream().anyMatch(u -> ids.contains(u.getId())));
+        assertTrue(userRepository.countNotDeleted() < countBefore);
+        assertFalse(result.getContent().stream().anyMatch(ids::contains));
         
         Optional<User> user1After = userRepository.findById(user1.getId());
         assertTrue(user1After.isPresent());
@@ -170,17 +175,88 @@ class UserRepositoryTest {
         User user3 = new User("Carlos", "carlos@test.com", "senha123", UserRole.USER);
         User savedUser3 = userRepository.save(user3);
         
-        Set<Long> ids = Set.of(user1.getId());
         Pageable pageable = PageRequest.of(0, 100);
-        long countBefore = userRepository.findAllNotDeleted("", pageable).getTotalElements();
+        long countBefore = userRepository.countNotDeleted();
         
-        userRepository.softDeleteAllByIds(ids);
+        userRepository.softDeleteAllByIds(new Long[] { user1.getId() });
 
-        Page<User> result = userRepository.findAllNotDeleted("", pageable);
+        Slice<Long> result = userRepository.findNotDeletedIds(pageable);
         
-        assertTrue(result.getTotalElements() < countBefore);
-        assertFalse(result.getContent().stream().anyMatch(u -> u.getId().equals(user1.getId())));
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getId().equals(user2.getId())));
-        assertTrue(result.getContent().stream().anyMatch(u -> u.getId().equals(savedUser3.getId())));
+        assertTrue(userRepository.countNotDeleted() < countBefore);
+        assertFalse(result.getContent().contains(user1.getId()));
+        assertTrue(result.getContent().contains(user2.getId()));
+        assertTrue(result.getContent().contains(savedUser3.getId()));
+    }
+
+    @Test
+    void testFindNotDeletedIdsAfter() {
+        List<Long> firstPage = userRepository.findNotDeletedIdsAfter(0L, PageRequest.of(0, 100));
+        List<Long> afterFirst = userRepository.findNotDeletedIdsAfter(user1.getId(), PageRequest.of(0, 100));
+
+        assertTrue(firstPage.contains(user1.getId()));
+        assertTrue(firstPage.contains(user2.getId()));
+        assertFalse(firstPage.contains(deletedUser.getId()));
+        assertFalse(afterFirst.contains(user1.getId()));
+        assertTrue(afterFirst.contains(user2.getId()));
+    }
+
+    @Test
+    void testFindAllWithCardsByIds() {
+        cardRepository.save(new Card(7777123456789012L, "Cartão 1", true, CardType.COMUM, user1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<User> result = userRepository.findAllWithCardsByIds(List.of(user1.getId(), user2.getId()));
+
+        assertEquals(2, result.size());
+        assertEquals(user1.getId(), result.get(0).getId());
+        assertEquals(1, result.get(0).getCards().size());
+        assertTrue(result.get(1).getCards().isEmpty());
+    }
+
+    @Test
+    void testSearchNotDeletedIds_byEmail() {
+        Slice<Long> result = userRepository.searchNotDeletedIds("maria@test.com", "maria@test.com", PageRequest.of(0, 10));
+
+        assertEquals(List.of(user2.getId()), result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void testSearchNotDeletedIdsAfter() {
+        User first = userRepository.save(new User("Zuleica Um", "zuleica.um@test.com", "senha123", UserRole.USER));
+        User second = userRepository.save(new User("Zulêica Dois", "zuleica.dois@test.com", "senha123", UserRole.USER));
+
+        List<Long> firstPage = userRepository.searchNotDeletedIdsAfter("zuleica", 0L, PageRequest.of(0, 100));
+        List<Long> afterFirst = userRepository.searchNotDeletedIdsAfter("zuleica", first.getId(), PageRequest.of(0, 100));
+
+        assertEquals(List.of(first.getId(), second.getId()), firstPage);
+        assertEquals(List.of(second.getId()), afterFirst);
+        assertTrue(userRepository.searchNotDeletedIdsAfter("zuleica tres", 0L, PageRequest.of(0, 100)).isEmpty());
+    }
+
+    @Test
+    void testSearchNotDeletedIds_ignoresAccentsAndCase() {
+        Slice<Long> result = userRepository.searchNotDeletedIds("JOAO", "JOAO", PageRequest.of(0, 100));
+
+        assertTrue(result.getContent().contains(user1.getId()));
+        assertFalse(result.getContent().contains(user2.getId()));
+    }
+
+    @Test
+    void testSearchNotDeletedIds_ordersByRelevance() {
+        User mariana = userRepository.save(new User("Mariana Souza", "mariana@test.com", "senha123", UserRole.USER));
+
+        List<Long> result = userRepository.searchNotDeletedIds("maria", "maria", PageRequest.of(0, 100)).getContent();
+
+        assertTrue(result.indexOf(user2.getId()) >= 0);
+        assertTrue(result.indexOf(user2.getId()) < result.indexOf(mariana.getId()));
+    }
+
+    @Test
+    void testCountSearchNotDeleted() {
+        assertEquals(1, userRepository.countSearchNotDeleted("joao@test"));
+        assertEquals(0, userRepository.countSearchNotDeleted("pedro@test"));
+        assertEquals(0, userRepository.countSearchNotDeleted("\\%"));
     }
 }
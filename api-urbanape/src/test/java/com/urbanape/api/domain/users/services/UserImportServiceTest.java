@@ -0,0 +1,182 @@
+package com.urbanape.api.domain.users.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.urbanape.api.domain.cards.components.CardNumberAllocator;
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.cards.entities.CardType;
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.users.dtos.UserImportReportDTO;
+import com.urbanape.api.domain.users.dtos.UserImportRowDTO;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.infra.exceptions.CsvFormatException;
+import com.urbanape.api.infra.pagination.TotalCountCache;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final String HEADER = "name,email,password,role,cardTitle,cardType\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardNumberAllocator cardNumberAllocator;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportService service;
+
+    @BeforeEach
+    void setup() {
+        service = new UserImportService(
+            userRepository, cardNumberAllocator, passwordEncoder, totalCountCache,
+            Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, 2, 2
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportCsv() throws IOException {
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        when(userRepository.copyUsers(anyList())).thenReturn(Map.of("joao@test.com", 1L, "maria@test.com", 2L));
+        when(cardNumberAllocator.allocate(1)).thenReturn(new long[] { 100L });
+        when(userRepository.copyCards(anyList())).thenReturn(1);
+
+        UserImportReportDTO report = service.importCsv(csv(
+            "Joao Silva,joao@test.com,Senha@123,user,Cartão Principal,estudante\n"
+                + "Maria Souza,maria@test.com,Senha@123,ADMIN,,\n"
+        ));
+
+        assertEquals(2, report.rows());
+        assertEquals(2, report.usersCreated());
+        assertEquals(1, report.cardsCreated());
+        assertEquals(0, report.failed());
+
+        ArgumentCaptor<List<UserImportRowDTO>> users = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).copyUsers(users.capture());
+        assertEquals("hash:Senha@123", users.getValue().get(0).password());
+
+        ArgumentCaptor<List<Card>> cards = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).copyCards(cards.capture());
+        Card card = cards.getValue().get(0);
+        assertEquals(CardService.generateCardNumber(100L), card.getNumber());
+        assertEquals(CardType.ESTUDANTE, card.getType());
+        assertEquals(1L, card.getUser().getId());
+    }
+
+    @Test
+    void testImportCsv_invalidRows() throws IOException {
+        UserImportReportDTO report = service.importCsv(csv(
+            "Joao Silva,joao@test.com,fraca,USER,,\n"
+                + "Maria Souza,maria@test.com,Senha@123,CHEFE,,\n"
+                + "\n"
+        ));
+
+        assertEquals(2, report.rows());
+        assertEquals(2, report.failed());
+        assertEquals(2, report.errors().get(0).line());
+        assertEquals("Role is required and must be ADMIN or USER", report.errors().get(1).error());
+        verify(userRepository, never()).copyUsers(anyList());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void testImportCsv_duplicates() throws IOException {
+        when(userRepository.findExistingEmails(anyCollection()))
+            .thenReturn(Set.of())
+            .thenReturn(Set.of("joao@test.com"));
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+        when(userRepository.copyUsers(anyList())).thenReturn(Map.of("maria@test.com", 2L));
+        when(cardNumberAllocator.allocate(0)).thenReturn(new long[0]);
+
+        UserImportReportDTO report = service.importCsv(csv(
+            "Maria Souza,maria@test.com,Senha@123,USER,,\n"
+                + "Maria Souza,maria@test.com,Senha@123,USER,,\n"
+                + "Joao Silva,joao@test.com,Senha@123,USER,,\n"
+        ));
+
+        assertEquals(1, report.usersCreated());
+        assertEquals(2, report.failed());
+        assertEquals("Duplicate email in file", report.errors().get(0).error());
+        assertEquals(3, report.errors().get(0).line());
+        assertEquals("User already registered", report.errors().get(1).error());
+        verify(passwordEncoder, times(1)).encode(any());
+    }
+
+    @Test
+    void testImportCsv_failedBatchDoesNotStopImport() throws IOException {
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+        when(userRepository.copyUsers(anyList()))
+            .thenThrow(new DataIntegrityViolationException("boom"))
+            .thenReturn(Map.of("carla@test.com", 3L));
+        when(cardNumberAllocator.allocate(anyInt())).thenReturn(new long[0]);
+
+        UserImportReportDTO report = service.importCsv(csv(
+            "Joao Silva,joao@test.com,Senha@123,USER,,\n"
+                + "Maria Souza,maria@test.com,Senha@123,USER,,\n"
+                + "Carla Mendes,carla@test.com,Senha@123,USER,,\n"
+        ));
+
+        assertEquals(3, report.rows());
+        assertEquals(1, report.usersCreated());
+        assertEquals(2, report.failed());
+        assertTrue(report.errors().stream().allMatch(error -> error.error().equals("Could not save batch")));
+    }
+
+    @Test
+    void testImportCsv_missingColumn() {
+        assertThrows(CsvFormatException.class, () -> service.importCsv(
+            new ByteArrayInputStream("name,email,role\n".getBytes(StandardCharsets.UTF_8))
+        ));
+    }
+
+    private InputStream csv(String rows) {
+        return new ByteArrayInputStream(("\uFEFF" + HEADER + rows).getBytes(StandardCharsets.UTF_8));
+    }
+}
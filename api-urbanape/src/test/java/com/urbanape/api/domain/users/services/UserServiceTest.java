@@ -1,6 +1,7 @@
 package com.urbanape.api.domain.users.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -12,27 +13,40 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.urbanape.api.domain.auth.components.PrincipalCache;
+import com.urbanape.api.domain.auth.components.TokenRevocationRegistry;
 import com.urbanape.api.domain.cards.entities.Card;
 import com.urbanape.api.domain.cards.entities.CardType;
-import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.components.UserVersionRegistry;
 import com.urbanape.api.domain.users.dtos.UpdateUserRequestDTO;
 import com.urbanape.api.domain.users.dtos.UserResponseDTO;
 import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.events.UsersDeletedEvent;
 import com.urbanape.api.domain.users.entities.UserRole;
 import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.infra.bulk.BulkIdChunker;
+import com.urbanape.api.infra.cache.SecondLevelCacheEvictor;
+import com.urbanape.api.infra.dtos.CursorPageDTO;
+import com.urbanape.api.infra.pagination.CursorCodec;
+import com.urbanape.api.infra.pagination.TotalCountCache;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -41,7 +55,28 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private CardService cardService;
+    private CardRepository cardRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private UserVersionRegistry userVersionRegistry;
+
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Spy
+    private BulkIdChunker bulkIdChunker = new BulkIdChunker(10000);
 
     @InjectMocks
     private UserService userService;
@@ -62,6 +97,7 @@ class UserServiceTest {
     @Test
     void testFindById() {
         when(userRepository.findNotDeletedById(1L)).thenReturn(Optional.of(user));
+        when(cardRepository.findNumbersByUserId(1L)).thenReturn(List.of(7777123456789012L, 7777123456789013L));
 
         UserResponseDTO result = userService.findById(1L);
 
@@ -73,6 +109,16 @@ class UserServiceTest {
         assertEquals(2, result.cardNumber().size());
     }
 
+    @Test
+    void testFindById_usesActiveCardNumbersOnly() {
+        when(userRepository.findNotDeletedById(1L)).thenReturn(Optional.of(user));
+        when(cardRepository.findNumbersByUserId(1L)).thenReturn(List.of(7777123456789013L));
+
+        UserResponseDTO result = userService.findById(1L);
+
+        assertEquals(List.of(7777123456789013L), result.cardNumber());
+    }
+
     @Test
     void testFindById_notFound() {
         when(userRepository.findNotDeletedById(999L)).thenReturn(Optional.empty());
@@ -85,9 +131,10 @@ class UserServiceTest {
     @Test
     void testFindAll() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> page = new PageImpl<>(List.of(user, admin), pageable, 2);
+        Slice<Long> ids = new SliceImpl<>(List.of(1L, 2L), pageable, false);
         
-        when(userRepository.findAllNotDeleted(any(String.class), eq(pageable))).thenReturn(page);
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(1L, 2L))).thenReturn(List.of(user, admin));
 
         Page<UserResponseDTO> result = userService.findAll("", pageable);
 
@@ -96,17 +143,111 @@ class UserServiceTest {
         assertEquals("Admin", result.getContent().get(1).name());
     }
 
+    @Test
+    void testFindAll_fullPageUsesCachedCount() {
+        Pageable pageable = PageRequest.of(0, 2);
+        Slice<Long> ids = new SliceImpl<>(List.of(1L, 2L), pageable, true);
+
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(1L, 2L))).thenReturn(List.of(user, admin));
+        when(totalCountCache.get(eq("users:"), any())).thenReturn(40L);
+
+        Page<UserResponseDTO> result = userService.findAll("", pageable);
+
+        assertEquals(40, result.getTotalElements());
+    }
+
+    @Test
+    void testFindAllSlice() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<Long> ids = new SliceImpl<>(List.of(1L), pageable, true);
+
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(1L))).thenReturn(List.of(user));
+
+        Slice<UserResponseDTO> result = userService.findAllSlice("", pageable);
+
+        assertTrue(result.hasNext());
+        assertEquals(2, result.getContent().get(0).cardNumber().size());
+        verify(totalCountCache, never()).get(any(), any());
+    }
+
+    @Test
+    void testFindAllSlice_skipsDeletedCards() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Card deleted = new Card(7777123456789014L, "Cartão 3", true, CardType.COMUM, user);
+        deleted.setIsDeleted(true);
+        user.setCards(List.of(user.getCards().get(0), deleted));
+
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(new SliceImpl<>(List.of(1L), pageable, false));
+        when(userRepository.findAllWithCardsByIds(List.of(1L))).thenReturn(List.of(user));
+
+        Slice<UserResponseDTO> result = userService.findAllSlice("", pageable);
+
+        assertEquals(List.of(7777123456789012L), result.getContent().get(0).cardNumber());
+    }
+
+    @Test
+    void testFindAll_keepsIdOrderOfPage() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<Long> ids = new SliceImpl<>(List.of(2L, 1L), pageable, false);
+
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(2L, 1L))).thenReturn(List.of(user, admin));
+
+        Page<UserResponseDTO> result = userService.findAll("", pageable);
+
+        assertEquals(2L, result.getContent().get(0).id());
+        assertEquals(1L, result.getContent().get(1).id());
+    }
+
+    @Test
+    void testFindAll_emptyPageSkipsFetch() {
+        Pageable pageable = PageRequest.of(5, 10);
+
+        when(userRepository.findNotDeletedIds(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(totalCountCache.get(eq("users:"), any())).thenReturn(30L);
+
+        Page<UserResponseDTO> result = userService.findAll("", pageable);
+
+        assertTrue(result.getContent().isEmpty());
+        verify(userRepository, never()).findAllWithCardsByIds(any());
+    }
+
     @Test
     void testFindAll_withSearch() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> page = new PageImpl<>(List.of(user), pageable, 1);
+        Slice<Long> ids = new SliceImpl<>(List.of(1L), pageable, false);
         
-        when(userRepository.findAllNotDeleted(eq("joão"), eq(pageable))).thenReturn(page);
+        when(userRepository.searchNotDeletedIds(eq("joão"), eq("joão"), eq(pageable))).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(1L))).thenReturn(List.of(user));
 
         Page<UserResponseDTO> result = userService.findAll("joão", pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals("João", result.getContent().get(0).name());
+        verify(userRepository, never()).findNotDeletedIds(any());
+    }
+
+    @Test
+    void testFindAll_withSearchKeepsRelevanceOrder() {
+        Pageable pageable = PageRequest.of(0, 2, org.springframework.data.domain.Sort.by("name"));
+        Slice<Long> ids = new SliceImpl<>(List.of(2L, 1L), PageRequest.of(0, 2), true);
+
+        when(userRepository.searchNotDeletedIds("50\\%\\_off", "50%_off", PageRequest.of(0, 2))).thenReturn(ids);
+        when(userRepository.findAllWithCardsByIds(List.of(2L, 1L))).thenReturn(List.of(user, admin));
+        when(totalCountCache.get(eq("users:50%_off"), any())).thenReturn(7L);
+
+        Page<UserResponseDTO> result = userService.findAll("50%_off", pageable);
+
+        assertEquals(7, result.getTotalElements());
+        assertEquals("Admin", result.getContent().get(0).name());
+        assertEquals("João", result.getContent().get(1).name());
+    }
+
+    @Test
+    void testEscapeLike() {
+        assertEquals("a\\%b\\_c\\\\d", UserService.escapeLike("a%b_c\\d"));
     }
 
     @Test
@@ -146,6 +287,9 @@ class UserServiceTest {
         UserResponseDTO result = userService.update(1L, dto);
 
         assertEquals(UserRole.ADMIN, result.role());
+        assertEquals(1, user.getTokenVersion());
+        verify(principalCache).invalidateByUserIds(Set.of(1L));
+        verify(tokenRevocationRegistry).revokeUsers(Set.of(1L));
     }
 
     @Test
@@ -178,13 +322,15 @@ class UserServiceTest {
     void testDelete() {
         Set<Long> ids = Set.of(1L, 2L);
         
-        doNothing().when(userRepository).softDeleteAllByIds(ids);
-        doNothing().when(cardService).deleteAllByUserIds(ids);
-
-        userService.delete(ids);
-
-        verify(userRepository).softDeleteAllByIds(ids);
-        verify(cardService).deleteAllByUserIds(ids);
+        when(userRepository.softDeleteAllByIds(new Long[] { 1L, 2L })).thenReturn(2);
+
+        assertEquals(2, userService.delete(ids));
+        verify(secondLevelCacheEvictor).evict(User.class);
+        verify(eventPublisher).publishEvent(new UsersDeletedEvent(ids));
+        verify(principalCache).invalidateByUserIds(ids);
+        verify(tokenRevocationRegistry).revokeUsers(ids);
+        verify(totalCountCache).invalidate("users");
+        verify(userVersionRegistry).bump(ids);
     }
 
     @Test
@@ -213,6 +359,7 @@ class UserServiceTest {
         userSemCards.setCards(null);
         
         when(userRepository.findNotDeletedById(3L)).thenReturn(Optional.of(userSemCards));
+        when(cardRepository.findNumbersByUserId(3L)).thenReturn(List.of());
 
         UserResponseDTO result = userService.findById(3L);
 
@@ -221,4 +368,60 @@ class UserServiceTest {
         assertNotNull(result.cardNumber());
         assertTrue(result.cardNumber().isEmpty());
     }
+
+    @Test
+    void testFindEntitiesByIds() {
+        when(userRepository.findAllNotDeletedByIds(new Long[] { 1L, 2L, 999L })).thenReturn(List.of(user, admin));
+
+        Map<Long, User> result = userService.findEntitiesByIds(Set.of(user.getId(), admin.getId(), 999L));
+
+        assertEquals(2, result.size());
+        assertEquals(user, result.get(user.getId()));
+        assertNull(result.get(999L));
+    }
+
+    @Test
+    void testFindEntitiesByIds_chunked() {
+        ReflectionTestUtils.setField(userService, "bulkIdChunker", new BulkIdChunker(2));
+        when(userRepository.findAllNotDeletedByIds(new Long[] { 1L, 2L })).thenReturn(List.of(user, admin));
+        when(userRepository.findAllNotDeletedByIds(new Long[] { 999L })).thenReturn(List.of());
+
+        Map<Long, User> result = userService.findEntitiesByIds(Set.of(999L, 2L, 1L));
+
+        assertEquals(Set.of(1L, 2L), result.keySet());
+    }
+
+    @Test
+    void testFindAllAfter() {
+        when(userRepository.findNotDeletedIdsAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(1L, 2L, 3L));
+        when(userRepository.findAllWithCardsByIds(List.of(1L, 2L))).thenReturn(List.of(user, admin));
+
+        CursorPageDTO<UserResponseDTO> result = userService.findAllAfter("", null, 2);
+
+        assertEquals(2, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(2L, CursorCodec.decode(result.nextCursor()));
+    }
+
+    @Test
+    void testFindAllAfter_empty() {
+        when(userRepository.findNotDeletedIdsAfter(5L, PageRequest.of(0, 21))).thenReturn(List.of());
+
+        CursorPageDTO<UserResponseDTO> result = userService.findAllAfter("", CursorCodec.encode(5L), 20);
+
+        assertTrue(result.content().isEmpty());
+        assertNull(result.nextCursor());
+        verify(userRepository, never()).findAllWithCardsByIds(any());
+    }
+
+    @Test
+    void testFindAllAfter_withSearchEscapesPattern() {
+        when(userRepository.searchNotDeletedIdsAfter("50\\%", 0L, PageRequest.of(0, 21))).thenReturn(List.of(1L));
+        when(userRepository.findAllWithCardsByIds(List.of(1L))).thenReturn(List.of(user));
+
+        CursorPageDTO<UserResponseDTO> result = userService.findAllAfter("50%", null, 20);
+
+        assertEquals(1, result.content().size());
+        verify(userRepository, never()).findNotDeletedIdsAfter(anyLong(), any());
+    }
 }
@@ -0,0 +1,56 @@
+package com.urbanape.api.infra.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class BulkIdChunkerTest {
+
+    @Test
+    void testUpdate_splitsSortedChunks() {
+        BulkIdChunker chunker = new BulkIdChunker(2);
+        List<Long[]> chunks = new ArrayList<>();
+
+        int affected = chunker.update(List.of(5L, 1L, 3L, 2L, 4L, 3L), chunk -> {
+            chunks.add(chunk);
+            return chunk.length;
+        });
+
+        assertEquals(5, affected);
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new Long[] { 1L, 2L }, chunks.get(0));
+        assertArrayEquals(new Long[] { 3L, 4L }, chunks.get(1));
+        assertArrayEquals(new Long[] { 5L }, chunks.get(2));
+    }
+
+    @Test
+    void testUpdate_empty() {
+        BulkIdChunker chunker = new BulkIdChunker(2);
+
+        assertEquals(0, chunker.update(Set.of(), chunk -> {
+            throw new AssertionError("No chunk expected");
+        }));
+    }
+
+    @Test
+    void testQuery_concatenatesResults() {
+        BulkIdChunker chunker = new BulkIdChunker(1);
+
+        List<Long> results = chunker.query(Set.of(10L, 20L), chunk -> List.of(chunk[0] * 2));
+
+        assertEquals(List.of(20L, 40L), results);
+        assertTrue(chunker.query(Set.of(), chunk -> List.of(chunk[0])).isEmpty());
+    }
+
+    @Test
+    void testConstructor_invalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkIdChunker(0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.urbanape.api.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class CallerRunsLoaderTest {
+
+    private AsyncCache<String, Long> cache;
+
+    @BeforeEach
+    void setup() {
+        cache = Caffeine.newBuilder().buildAsync();
+    }
+
+    @Test
+    void testGet_runsLoaderOnCallerThread() {
+        Thread caller = Thread.currentThread();
+
+        CallerRunsLoader.get(cache, "cards", key -> {
+            assertSame(caller, Thread.currentThread());
+            return 10L;
+        });
+
+        assertEquals(10L, CallerRunsLoader.get(cache, "cards", key -> 11L));
+    }
+
+    @Test
+    void testGet_concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Long> first = executor.submit(() -> CallerRunsLoader.get(cache, "cards", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return 10L;
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+
+            Future<Long> second = executor.submit(() -> CallerRunsLoader.get(cache, "cards", key -> {
+                loads.incrementAndGet();
+                return 11L;
+            }));
+            release.countDown();
+
+            assertEquals(10L, first.get(5, TimeUnit.SECONDS));
+            assertEquals(10L, second.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_failedLoadIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> CallerRunsLoader.get(cache, "cards", key -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        assertEquals(11L, CallerRunsLoader.get(cache, "cards", key -> 11L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
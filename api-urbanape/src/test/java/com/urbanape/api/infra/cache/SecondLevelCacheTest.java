@@ -0,0 +1,148 @@
+package com.urbanape.api.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanape.api.domain.cards.dtos.DeleteCardListRequestDTO;
+import com.urbanape.api.domain.cards.entities.Card;
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.cards.services.CardService;
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+// Sem transação no teste: o que uma sessão grava no cache só é legível por sessões iniciadas depois dela.
+// Usa os dados commitados na inicialização; escritas rodam numa transação desfeita ou são revertidas no fim do teste.
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+
+    private Long cardNumber;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = (User) userRepository.findByEmail("joao@user.urbanape.com");
+        cardNumber = cardRepository.findNumbersByUserId(user.getId()).get(0);
+
+        // evictAll do JPA não limpa as consultas cacheadas
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void testFindById_servedFromCache() {
+        long hits = statistics.getCacheRegionStatistics(Card.CACHE_REGION).getHitCount();
+
+        cardRepository.findById(cardNumber);
+        cardRepository.findById(cardNumber);
+
+        assertEquals(hits + 1, statistics.getCacheRegionStatistics(Card.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    void testQueryCache() {
+        long hits = statistics.getQueryCacheHitCount();
+
+        cardRepository.findNumbersByUserId(user.getId());
+        cardRepository.findNumbersByUserId(user.getId());
+
+        assertEquals(hits + 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testNativeSoftDelete_evictsOnlyCards() {
+        userRepository.findById(user.getId());
+        cardRepository.findById(cardNumber);
+        assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Card.class, cardNumber));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cardService.deleteAll(new DeleteCardListRequestDTO(Set.of(cardNumber)));
+
+            assertFalse(entityManagerFactory.getCache().contains(Card.class, cardNumber));
+            assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+            assertTrue(cardRepository.findById(cardNumber).orElseThrow().getIsDeleted());
+            assertFalse(cardRepository.findNumbersByUserId(user.getId()).contains(cardNumber));
+
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void testNativeSoftDelete_evictsAfterCommit() {
+        cardRepository.findById(cardNumber);
+        cardRepository.findNumbersByUserId(user.getId());
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                cardService.deleteAll(new DeleteCardListRequestDTO(Set.of(cardNumber)))
+            );
+
+            assertFalse(entityManagerFactory.getCache().contains(Card.class, cardNumber));
+            assertTrue(cardRepository.findById(cardNumber).orElseThrow().getIsDeleted());
+            assertFalse(cardRepository.findNumbersByUserId(user.getId()).contains(cardNumber));
+        } finally {
+            jdbcTemplate.update("UPDATE cards SET is_deleted = FALSE WHERE number = ?", cardNumber);
+        }
+    }
+
+    @Test
+    void testMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new HibernateCacheMetrics(entityManagerFactory).bindTo(registry);
+        double before = registry.get("hibernate.cache.requests").tags("region", Card.CACHE_REGION, "result", "hit").functionCounter().count();
+
+        cardRepository.findById(cardNumber);
+        cardRepository.findById(cardNumber);
+
+        double after = registry.get("hibernate.cache.requests").tags("region", Card.CACHE_REGION, "result", "hit").functionCounter().count();
+        assertEquals(before + 1, after);
+    }
+}
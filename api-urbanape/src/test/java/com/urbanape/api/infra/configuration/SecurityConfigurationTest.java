@@ -0,0 +1,54 @@
+package com.urbanape.api.infra.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class SecurityConfigurationTest {
+
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setup() {
+        passwordEncoder = new SecurityConfiguration().passwordEncoder("bcrypt", 4, 1000);
+    }
+
+    @Test
+    void testEncode_usesConfiguredPrefix() {
+        String encoded = passwordEncoder.encode("senha123");
+
+        assertTrue(encoded.startsWith("{bcrypt}$2a$04$"));
+        assertTrue(passwordEncoder.matches("senha123", encoded));
+        assertFalse(passwordEncoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void testMatches_legacyHashWithoutPrefix() {
+        String legacy = new BCryptPasswordEncoder(4).encode("senha123");
+
+        assertTrue(passwordEncoder.matches("senha123", legacy));
+        assertTrue(passwordEncoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void testUpgradeEncoding_lowerCost() {
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("senha123");
+        PasswordEncoder strongerEncoder = new SecurityConfiguration().passwordEncoder("bcrypt", 5, 1000);
+
+        assertTrue(strongerEncoder.upgradeEncoding(weaker));
+    }
+
+    @Test
+    void testUpgradeEncoding_otherAlgorithm() {
+        String bcrypt = passwordEncoder.encode("senha123");
+        PasswordEncoder pbkdf2Encoder = new SecurityConfiguration().passwordEncoder("pbkdf2", 4, 1000);
+
+        assertTrue(pbkdf2Encoder.matches("senha123", bcrypt));
+        assertTrue(pbkdf2Encoder.upgradeEncoding(bcrypt));
+        assertTrue(pbkdf2Encoder.encode("senha123").startsWith("{pbkdf2}"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.urbanape.api.infra.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.urbanape.api.infra.exceptions.CsvFormatException;
+
+class CsvReaderTest {
+
+    @Test
+    void testNext_simpleRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("name,email\nJoao,joao@test.com\r\nMaria,maria@test.com"));
+
+        assertEquals(List.of("name", "email"), reader.next());
+        assertEquals(List.of("Joao", "joao@test.com"), reader.next());
+        assertEquals(2, reader.line());
+        assertEquals(List.of("Maria", "maria@test.com"), reader.next());
+        assertEquals(3, reader.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_quotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Silva, Joao\",\"diz \"\"oi\"\"\",\"\"\n"));
+
+        assertEquals(List.of("Silva, Joao", "diz \"oi\"", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_quotedLineBreak() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"linha 1\nlinha 2\",x\nproxima,y\n"));
+
+        assertEquals(List.of("linha 1\nlinha 2", "x"), reader.next());
+        assertEquals(1, reader.line());
+        assertEquals(List.of("proxima", "y"), reader.next());
+        assertEquals(3, reader.line());
+    }
+
+    @Test
+    void testNext_emptyTrailingField() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,\n"));
+
+        assertEquals(List.of("a", "b", ""), reader.next());
+    }
+
+    @Test
+    void testNext_unterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"sem fim,x\n"));
+
+        reader.next();
+        assertThrows(CsvFormatException.class, reader::next);
+    }
+}
@@ -0,0 +1,33 @@
+package com.urbanape.api.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ConnectionTimeoutPostProcessorTest {
+
+    @Test
+    void testPlatformThreads_keepsHikariDefault() {
+        assertEquals(30_000, timeout(null, false));
+    }
+
+    @Test
+    void testVirtualThreads_shorterTimeout() {
+        assertEquals(3_000, timeout(null, true));
+    }
+
+    @Test
+    void testConfiguredTimeout_usedInBothModes() {
+        assertEquals(5_000, timeout(5_000L, false));
+        assertEquals(5_000, timeout(5_000L, true));
+    }
+
+    private static long timeout(Long configured, boolean virtualThreads) {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            new ConnectionTimeoutPostProcessor(configured, virtualThreads).postProcessBeforeInitialization(dataSource, "dataSource");
+            return dataSource.getConnectionTimeout();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.urbanape.api.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private DataSource otherReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Connection otherReplicaConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testGetConnection_beforeFirstCheckUsesPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        ReadReplicaDataSource dataSource = create(Map.of("replica-0", replica));
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, never()).getConnection();
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+    }
+
+    @Test
+    void testGetConnection_healthyReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        stubLag(replicaConnection, 0.5);
+
+        ReadReplicaDataSource dataSource = create(Map.of("replica-0", replica));
+        dataSource.checkReplicas();
+
+        assertSame(replicaConnection, dataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void testGetConnection_lagAboveThresholdUsesPrimary() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        stubLag(replicaConnection, 30);
+
+        ReadReplicaDataSource dataSource = create(Map.of("replica-0", replica));
+        dataSource.checkReplicas();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void testGetConnection_replicaFailureFallsBackToPrimary() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        stubLag(replicaConnection, 0);
+
+        ReadReplicaDataSource dataSource = create(Map.of("replica-0", replica));
+        dataSource.checkReplicas();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        // A réplica que falhou sai do roteamento até a próxima verificação
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica, org.mockito.Mockito.times(2)).getConnection();
+    }
+
+    @Test
+    void testGetConnection_roundRobinBetweenReplicas() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(otherReplica.getConnection()).thenReturn(otherReplicaConnection);
+        stubLag(replicaConnection, 0);
+        stubLag(otherReplicaConnection, 0);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        replicas.put("replica-1", otherReplica);
+        ReadReplicaDataSource dataSource = create(replicas);
+        dataSource.checkReplicas();
+
+        assertSame(replicaConnection, dataSource.getConnection());
+        assertSame(otherReplicaConnection, dataSource.getConnection());
+        assertSame(replicaConnection, dataSource.getConnection());
+    }
+
+    private ReadReplicaDataSource create(Map<String, DataSource> replicas) {
+        return new ReadReplicaDataSource(primary, replicas, Duration.ofSeconds(5), Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private void stubLag(Connection connection, double lagSeconds) throws SQLException {
+        Statement statement = org.mockito.Mockito.mock(Statement.class);
+        ResultSet result = org.mockito.Mockito.mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getDouble(1)).thenReturn(lagSeconds);
+    }
+}
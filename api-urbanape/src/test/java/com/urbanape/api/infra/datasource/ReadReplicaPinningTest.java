@@ -0,0 +1,79 @@
+package com.urbanape.api.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.urbanape.api.domain.cards.repositories.CardRepository;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+import com.urbanape.api.domain.users.services.UserService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Mesmo proxy da ReadReplicaConfiguration, com uma "réplica" H2 vazia (sem tabelas): tudo o que for roteado
+// para ela falha. Roda sem PostgreSQL; o roteamento real é coberto por ReadReplicaRoutingTest.
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadReplicaPinningTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:pinning;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=RUNSCRIPT FROM 'classpath:schema-test.sql'";
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:pinning-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void testFindByEmail_usesPrimary() {
+        assertNotNull(userRepository.findByEmail("joao@user.urbanape.com"));
+    }
+
+    @Test
+    void testNextCardNumber_usesPrimary() {
+        assertNotNull(cardRepository.nextCardNumber());
+    }
+
+    @Test
+    void testReadOnlyTransaction_usesReplica() {
+        assertThrows(DataAccessException.class, () -> userService.findById(1L));
+    }
+
+    @TestConfiguration
+    static class RoutingConfiguration {
+
+        @Bean
+        @Primary
+        DataSource dataSource() {
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(pool("primary", PRIMARY_URL));
+            proxy.setReadOnlyDataSource(pool("replica", REPLICA_URL));
+            return proxy;
+        }
+
+        private static HikariDataSource pool(String name, String url) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(url);
+            config.setUsername("sa");
+            config.setPassword("");
+            config.setMaximumPoolSize(4);
+            return new HikariDataSource(config);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.urbanape.api.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Roteamento contra dois PostgreSQL locais: IT_DB_URL como primário e IT_DB_REPLICA_URL como réplica
+// (basta ser outra instância; não precisa estar replicando). Nenhum dado é gravado.
+@EnabledIfEnvironmentVariable(named = "IT_DB_REPLICA_URL", matches = ".+")
+class ReadReplicaRoutingTest {
+
+    // Identifica a instância que respondeu
+    private static final String INSTANCE_QUERY = "SELECT CAST(pg_postmaster_start_time() AS TEXT) || ':' || inet_server_port()";
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    private String primaryInstance;
+
+    private String replicaInstance;
+
+    @BeforeEach
+    void setup() {
+        primary = pool("primary", System.getenv("IT_DB_URL"));
+        replica = pool("replica", System.getenv("IT_DB_REPLICA_URL"));
+        primaryInstance = new JdbcTemplate(primary).queryForObject(INSTANCE_QUERY, String.class);
+        replicaInstance = new JdbcTemplate(replica).queryForObject(INSTANCE_QUERY, String.class);
+
+        assertNotEquals(primaryInstance, replicaInstance, "IT_DB_URL e IT_DB_REPLICA_URL apontam para a mesma instância");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void testReadOnlyTransaction_usesReplica() {
+        DataSource dataSource = route(Map.of("replica-0", replica), Duration.ofSeconds(5));
+
+        assertEquals(replicaInstance, instance(dataSource, true));
+        assertEquals(primaryInstance, instance(dataSource, false));
+    }
+
+    @Test
+    void testReadOnlyTransaction_replicaDownUsesPrimary() {
+        try (HikariDataSource unreachable = pool("unreachable", "jdbc:postgresql://127.0.0.1:1/urbanape")) {
+            DataSource dataSource = route(Map.of("replica-0", unreachable), Duration.ofSeconds(5));
+
+            assertEquals(primaryInstance, instance(dataSource, true));
+        }
+    }
+
+    @Test
+    void testReadOnlyTransaction_lagAboveThresholdUsesPrimary() {
+        // Limite negativo: qualquer atraso medido, inclusive zero, tira a réplica do roteamento
+        DataSource dataSource = route(Map.of("replica-0", replica), Duration.ofSeconds(-1));
+
+        assertEquals(primaryInstance, instance(dataSource, true));
+    }
+
+    private DataSource route(Map<String, DataSource> replicas, Duration maxLag) {
+        ReadReplicaDataSource router = new ReadReplicaDataSource(primary, replicas, maxLag, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        router.checkReplicas();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(router);
+        return proxy;
+    }
+
+    private static String instance(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource).queryForObject(INSTANCE_QUERY, String.class));
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(System.getenv("IT_DB_USERNAME"));
+        config.setPassword(System.getenv("IT_DB_PASSWORD"));
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(1000);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
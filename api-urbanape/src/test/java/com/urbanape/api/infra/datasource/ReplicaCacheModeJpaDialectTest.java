@@ -0,0 +1,110 @@
+package com.urbanape.api.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.Cache;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.urbanape.api.domain.users.entities.User;
+import com.urbanape.api.domain.users.repositories.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Mesmo dialeto que a ReadReplicaConfiguration instala; aqui num JpaTransactionManager próprio, sem réplicas
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+class ReplicaCacheModeJpaDialectTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Cache cache;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    private Long userId;
+
+    @BeforeEach
+    void setup() {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setJpaDialect(new ReplicaCacheModeJpaDialect());
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        userId = ((User) userRepository.findByEmail("joao@user.urbanape.com")).getId();
+        cache.evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void testReadOnlyTransaction_doesNotFillCache() {
+        CacheMode mode = readOnly.execute(status -> {
+            entityManager.find(User.class, userId);
+            return entityManager.unwrap(Session.class).getCacheMode();
+        });
+
+        assertEquals(CacheMode.GET, mode);
+        assertFalse(cache.containsEntity(User.class, userId));
+    }
+
+    @Test
+    void testReadWriteTransaction_fillsCache() {
+        CacheMode mode = readWrite.execute(status -> {
+            entityManager.find(User.class, userId);
+            return entityManager.unwrap(Session.class).getCacheMode();
+        });
+
+        assertEquals(CacheMode.NORMAL, mode);
+        assertTrue(cache.containsEntity(User.class, userId));
+    }
+
+    @Test
+    void testReadOnlyTransaction_stillReadsCache() {
+        readWrite.executeWithoutResult(status -> entityManager.find(User.class, userId));
+        long hits = entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics(User.CACHE_REGION).getHitCount();
+
+        readOnly.executeWithoutResult(status -> entityManager.find(User.class, userId));
+
+        assertEquals(hits + 1, entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics(User.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    void testReadOnlyTransaction_restoresModeForNextTransaction() {
+        readOnly.executeWithoutResult(status -> entityManager.find(User.class, userId));
+
+        readWrite.executeWithoutResult(status -> entityManager.find(User.class, userId));
+
+        assertTrue(cache.containsEntity(User.class, userId));
+    }
+}
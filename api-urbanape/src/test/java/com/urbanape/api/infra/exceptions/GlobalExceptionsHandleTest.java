@@ -12,11 +12,13 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 
+import com.urbanape.api.domain.auth.exceptions.LoginUnavailableException;
 import com.urbanape.api.domain.users.exceptions.UserAlreadyExistExeption;
 import com.urbanape.api.domain.users.exceptions.UserNotFoundException;
 import com.urbanape.api.infra.dtos.ErrorValidationDTO;
@@ -93,6 +95,28 @@ class GlobalExceptionsHandleTest {
         assertEquals("Email already exists", response.getBody());
     }
 
+    @Test
+    void testHandleLoginUnavailableException() {
+        LoginUnavailableException ex = new LoginUnavailableException("Too many login attempts, try again later");
+
+        ResponseEntity<Object> response = exceptionHandler.handleLoginUnavailableException(ex, webRequest);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getBody() instanceof ResponseMessageDTO);
+    }
+
+    @Test
+    void testHandleCannotCreateTransactionException() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Connection is not available, request timed out");
+
+        ResponseEntity<Object> response = exceptionHandler.handleCannotCreateTransactionException(ex, webRequest);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Service busy, try again later", ((ResponseMessageDTO) response.getBody()).message());
+    }
+
     @Test
     void testHandleMethodArgumentNotValid() throws Exception {
         BindingResult bindingResult = org.mockito.Mockito.mock(BindingResult.class);
@@ -116,4 +140,14 @@ class GlobalExceptionsHandleTest {
         assertEquals("email", errors.get(0).field());
         assertEquals("Email is required", errors.get(0).message());
     }
+
+    @Test
+    void testHandleInvalidCursorException() {
+        InvalidCursorException ex = new InvalidCursorException("Invalid cursor");
+
+        ResponseEntity<Object> response = exceptionHandler.handleInvalidCursorException(ex, webRequest);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid cursor", ((ResponseMessageDTO) response.getBody()).message());
+    }
 }
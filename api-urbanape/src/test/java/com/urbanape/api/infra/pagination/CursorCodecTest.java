@@ -0,0 +1,38 @@
+package com.urbanape.api.infra.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.urbanape.api.infra.exceptions.InvalidCursorException;
+
+class CursorCodecTest {
+
+    @Test
+    void testEncodeDecode() {
+        String cursor = CursorCodec.encode(123456789L);
+
+        assertEquals(123456789L, CursorCodec.decode(cursor));
+    }
+
+    @Test
+    void testDecode_withoutCursor() {
+        assertEquals(0L, CursorCodec.decode(null));
+        assertEquals(0L, CursorCodec.decode(""));
+    }
+
+    @Test
+    void testDecode_invalidCursor() {
+        String unversioned = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String negative = Base64.getUrlEncoder().encodeToString("v1:-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode("@@@"));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(unversioned));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(negative));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(CursorCodec.encode(1L) + "x"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.urbanape.api.infra.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TotalCountCacheTest {
+
+    private TotalCountCache totalCountCache;
+
+    @BeforeEach
+    void setup() {
+        totalCountCache = new TotalCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGet_countsOnlyOnce() {
+        AtomicInteger counts = new AtomicInteger();
+
+        totalCountCache.get("cards", () -> { counts.incrementAndGet(); return 10L; });
+        long result = totalCountCache.get("cards", () -> { counts.incrementAndGet(); return 11L; });
+
+        assertEquals(10L, result);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void testInvalidate_byPrefix() {
+        totalCountCache.get("cards", () -> 10L);
+        totalCountCache.get("cards:user:1", () -> 2L);
+        totalCountCache.get("users:", () -> 5L);
+
+        totalCountCache.invalidate("cards");
+
+        assertEquals(11L, totalCountCache.get("cards", () -> 11L));
+        assertEquals(3L, totalCountCache.get("cards:user:1", () -> 3L));
+        assertEquals(5L, totalCountCache.get("users:", () -> 6L));
+    }
+
+    @Test
+    void testGet_expiresAfterTtl() throws InterruptedException {
+        totalCountCache = new TotalCountCache(100, Duration.ofMillis(50), new SimpleMeterRegistry());
+        totalCountCache.get("cards", () -> 10L);
+
+        Thread.sleep(100);
+
+        assertEquals(11L, totalCountCache.get("cards", () -> 11L));
+    }
+}
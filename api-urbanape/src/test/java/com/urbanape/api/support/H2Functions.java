@@ -0,0 +1,47 @@
+package com.urbanape.api.support;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Equivalentes em Java das funções do PostgreSQL usadas na busca de usuários (V7), registradas no H2 pelo schema-test.sql
+public final class H2Functions {
+
+    private H2Functions() {}
+
+    public static String unaccent(String value) {
+        if (value == null) return null;
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    public static String userSearchText(String name, String email) {
+        if (name == null || email == null) return null;
+        return unaccent((name + " " + email).toLowerCase(Locale.ROOT));
+    }
+
+    // Aproximação do word_similarity do pg_trgm: fração dos trigramas do termo presentes no texto
+    public static double wordSimilarity(String term, String text) {
+        if (term == null || text == null) return 0;
+
+        Set<String> termTrigrams = trigrams(term);
+        if (termTrigrams.isEmpty()) return 0;
+
+        Set<String> shared = new HashSet<>(termTrigrams);
+        shared.retainAll(trigrams(text));
+
+        return (double) shared.size() / termTrigrams.size();
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -1,3 +1,3 @@
 -- Script de inicialização para H2
 -- Cria a sequence para números de cartão
-CREATE SEQUENCE IF NOT EXISTS card_number_seq START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS card_number_seq START WITH 1 INCREMENT BY 50;
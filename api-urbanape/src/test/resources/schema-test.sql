@@ -1,6 +1,6 @@
 -- Script para criar tabelas no H2 para testes
 -- Cria a sequence
-CREATE SEQUENCE IF NOT EXISTS card_number_seq START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS card_number_seq START WITH 1 INCREMENT BY 50;
 
 -- Cria a tabela users sem o tipo customizado
 CREATE TABLE IF NOT EXISTS users (
@@ -9,7 +9,8 @@ CREATE TABLE IF NOT EXISTS users (
     email VARCHAR(255) NOT NULL UNIQUE,
     role VARCHAR(255) NOT NULL DEFAULT 'USER',
     password VARCHAR(255) NOT NULL,
-    is_deleted BOOLEAN NOT NULL DEFAULT FALSE
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    token_version INTEGER NOT NULL DEFAULT 0
 );
 
 -- Cria a tabela cards
@@ -23,3 +24,31 @@ CREATE TABLE IF NOT EXISTS cards (
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
     FOREIGN KEY (user_id) REFERENCES users(id)
 );
+
+-- Cria a tabela jobs (V9)
+CREATE TABLE IF NOT EXISTS jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    target_ids BIGINT ARRAY NOT NULL,
+    total INTEGER NOT NULL,
+    processed INTEGER NOT NULL DEFAULT 0,
+    affected INTEGER NOT NULL DEFAULT 0,
+    cards_affected INTEGER NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Índices (o H2 não suporta índices parciais; no PostgreSQL são filtrados por is_deleted = FALSE)
+CREATE INDEX IF NOT EXISTS cards_record_active_idx ON cards (record);
+CREATE INDEX IF NOT EXISTS cards_user_record_active_idx ON cards (user_id, record);
+CREATE INDEX IF NOT EXISTS cards_user_id_idx ON cards (user_id);
+CREATE INDEX IF NOT EXISTS users_id_active_idx ON users (id);
+CREATE INDEX IF NOT EXISTS jobs_runnable_idx ON jobs (id);
+
+-- Funções da busca de usuários (V7), implementadas em Java no H2
+CREATE ALIAS IF NOT EXISTS immutable_unaccent DETERMINISTIC FOR 'com.urbanape.api.support.H2Functions.unaccent';
+CREATE ALIAS IF NOT EXISTS user_search_text DETERMINISTIC FOR 'com.urbanape.api.support.H2Functions.userSearchText';
+CREATE ALIAS IF NOT EXISTS word_similarity DETERMINISTIC FOR 'com.urbanape.api.support.H2Functions.wordSimilarity';
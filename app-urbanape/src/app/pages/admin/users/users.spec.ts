@@ -1,9 +1,9 @@
-import { ComponentFixture, TestBed } from '@angular/core/testing';
+import { ComponentFixture, TestBed, fakeAsync, flushMicrotasks, tick } from '@angular/core/testing';
 import { Router } from '@angular/router';
 import { of } from 'rxjs';
 import { UsersComponent } from './users';
 import { ApiService } from '../../../services/ApiService';
-import type { User } from '../../../services/api.types';
+import type { Job, User } from '../../../services/api.types';
 
 describe('UsersComponent', () => {
   let component: UsersComponent;
@@ -16,8 +16,21 @@ describe('UsersComponent', () => {
     { id: 2, name: 'User Two', email: 'user2@test.com', role: 'ADMIN' },
   ];
 
+  const mockJob: Job = {
+    id: 10,
+    type: 'USER_DELETION',
+    status: 'DONE',
+    total: 1,
+    processed: 1,
+    affected: 1,
+    cardsAffected: 2,
+    error: null,
+    createdAt: '2026-01-01T00:00:00Z',
+    updatedAt: '2026-01-01T00:00:00Z',
+  };
+
   beforeEach(async () => {
-    const apiSpy = jasmine.createSpyObj('ApiService', ['listAllUsers', 'deleteUsers']);
+    const apiSpy = jasmine.createSpyObj('ApiService', ['listAllUsers', 'deleteUsers', 'getJob']);
     const routerSpy = jasmine.createSpyObj('Router', ['navigate']);
 
     await TestBed.configureTestingModule({
@@ -136,7 +149,7 @@ describe('UsersComponent', () => {
   it('should delete user on confirm', async () => {
     component.userToDelete = 1;
     component.currentPage = 0;
-    apiService.deleteUsers.and.returnValue(of(undefined));
+    apiService.deleteUsers.and.returnValue(of(mockJob));
     apiService.listAllUsers.and.returnValue(
       of({
         content: [mockUsers[1]],
@@ -153,4 +166,21 @@ describe('UsersComponent', () => {
     await component.deleteUser(1);
     expect(apiService.deleteUsers).toHaveBeenCalled();
   });
+
+  it('should poll the deletion job until it finishes', fakeAsync(() => {
+    apiService.deleteUsers.and.returnValue(of({ ...mockJob, status: 'PENDING' }));
+    apiService.getJob.and.returnValues(of({ ...mockJob, status: 'RUNNING' }), of(mockJob));
+    apiService.listAllUsers.calls.reset();
+
+    component.deleteUser(1);
+    flushMicrotasks();
+    tick(1000);
+    expect(apiService.getJob).toHaveBeenCalledWith(10);
+    expect(apiService.listAllUsers).not.toHaveBeenCalled();
+
+    tick(1000);
+    flushMicrotasks();
+    expect(apiService.getJob).toHaveBeenCalledTimes(2);
+    expect(apiService.listAllUsers).toHaveBeenCalled();
+  }));
 });
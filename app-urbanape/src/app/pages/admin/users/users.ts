@@ -2,12 +2,14 @@ import { Component, inject, OnInit, HostListener, ElementRef, ViewChild, AfterVi
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Router } from '@angular/router';
-import { firstValueFrom, of } from 'rxjs';
-import { catchError } from 'rxjs/operators';
+import { firstValueFrom, of, timer } from 'rxjs';
+import { catchError, last, switchMap, takeWhile } from 'rxjs/operators';
 import { ApiService } from '../../../services/ApiService';
-import type { User, DeleteUsersRequest } from '../../../services/api.types';
+import type { User, DeleteUsersRequest, Job } from '../../../services/api.types';
 import { ConfirmModalComponent } from '../../../components/confirm-modal/confirm-modal';
 
+const JOB_POLL_INTERVAL_MS = 1000;
+
 @Component({
   selector: 'app-users',
   imports: [CommonModule, FormsModule, ConfirmModalComponent],
@@ -214,7 +216,7 @@ export class UsersComponent implements OnInit, AfterViewChecked {
         ids: [userId],
       };
 
-      await firstValueFrom(
+      const job = await firstValueFrom(
         this.apiService.deleteUsers(request).pipe(
           catchError((error) => {
             throw error;
@@ -222,9 +224,27 @@ export class UsersComponent implements OnInit, AfterViewChecked {
         )
       );
 
+      const finished = await this.waitForJob(job);
+      if (finished.status === 'FAILED') {
+        console.error('Erro ao remover usuário:', finished.error);
+      }
+
       this.loadUsers(this.currentPage);
     } catch (error: any) {
       console.error('Erro ao remover usuário:', error);
     }
   }
+
+  // Consulta a tarefa até ela terminar (DONE ou FAILED)
+  private waitForJob(job: Job): Promise<Job> {
+    if (job.status === 'DONE' || job.status === 'FAILED') return Promise.resolve(job);
+
+    return firstValueFrom(
+      timer(JOB_POLL_INTERVAL_MS, JOB_POLL_INTERVAL_MS).pipe(
+        switchMap(() => this.apiService.getJob(job.id)),
+        takeWhile((current) => current.status === 'PENDING' || current.status === 'RUNNING', true),
+        last()
+      )
+    );
+  }
 }
@@ -8,6 +8,7 @@ import type {
   User,
   UpdateUserRequest,
   DeleteUsersRequest,
+  Job,
   Card,
   CreateCardRequest,
   UpdateCardRequest,
@@ -89,13 +90,20 @@ export class ApiService {
     });
   }
 
-  deleteUsers(request: DeleteUsersRequest): Observable<void> {
-    return this.http.delete<void>(`${this.baseUrl}/api/v1/admin/users`, {
+  // A remoção roda em segundo plano: a resposta (202) é a tarefa, acompanhada por getJob
+  deleteUsers(request: DeleteUsersRequest): Observable<Job> {
+    return this.http.delete<Job>(`${this.baseUrl}/api/v1/admin/users`, {
       headers: this.getHeaders(),
       body: request,
     });
   }
 
+  getJob(id: number): Observable<Job> {
+    return this.http.get<Job>(`${this.baseUrl}/api/v1/admin/jobs/${id}`, {
+      headers: this.getHeaders(),
+    });
+  }
+
   getMyCards(params?: PageParams): Observable<PageResponse<Card>> {
     const queryParams: Record<string, string> = {};
     if (params?.page !== undefined) queryParams['page'] = params.page.toString();
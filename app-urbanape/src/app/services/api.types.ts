@@ -37,6 +37,23 @@ export interface DeleteUsersRequest {
 }
 //#endregion
 
+//#region Job Types
+export type JobStatus = 'PENDING' | 'RUNNING' | 'DONE' | 'FAILED';
+
+export interface Job {
+  id: number;
+  type: 'USER_DELETION';
+  status: JobStatus;
+  total: number;
+  processed: number;
+  affected: number;
+  cardsAffected: number;
+  error: string | null;
+  createdAt: string;
+  updatedAt: string;
+}
+//#endregion
+
 //#region Pagination Types
 export interface PageParams {
   page?: number;